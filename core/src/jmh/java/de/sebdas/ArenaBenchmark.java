@@ -0,0 +1,57 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pulse of a world shared by many snakes, each running along its own row so that none collides,
+ * moved one after another ({@code threads} 0) or in parallel by region on a pool of the given size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArenaBenchmark {
+  private static final int BOARD_SIZE = 1024;
+  private static final int ROWS = BOARD_SIZE / 2;
+
+  @Param({"1", "100", "500", "5000"})
+  private int snakeCount;
+
+  @Param({"0", "1", "2", "4", "8"})
+  private int threads;
+
+  private World world;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    world = new World(BOARD_SIZE, BOARD_SIZE);
+    for (int i = 1; i < snakeCount; i++) { // the snake of the player runs along an even row
+      world.addSnake(new Coordinate(BOARD_SIZE / 2 + 8 * (i / ROWS), 2 * (i % ROWS) + 1), Directions.right());
+    }
+    world.setFood(Set.of());
+    if (threads > 0) {
+      pool = new ForkJoinPool(threads);
+      world.setTickPool(pool);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public World pulse() {
+    world.pulse();
+    return world;
+  }
+}
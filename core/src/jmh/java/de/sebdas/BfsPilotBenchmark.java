@@ -0,0 +1,45 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latency of a single decision of the {@link BfsPilot}, with the food in the farthest corner, so
+ * that the search has to cover nearly the whole board. The GC profiler should report no allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BfsPilotBenchmark {
+
+  @Param({"16", "128", "1024"})
+  private int boardSize;
+
+  @Param({"3", "200"})
+  private int snakeLength;
+
+  private World world;
+  private BfsPilot pilot;
+
+  @Setup
+  public void setup() {
+    world = new World(boardSize, boardSize);
+    world.setSnake(new BoardTour(world.getGrid()).createSnake(snakeLength));
+    final Coordinate head = world.getSnake().getHead();
+    world.setFood(Set.of(new Coordinate((head.getX() + boardSize / 2) % boardSize,
+                                        (head.getY() + boardSize / 2) % boardSize)));
+    pilot = new BfsPilot();
+    pilot.steer(world);
+  }
+
+  @Benchmark
+  public Snake steer() {
+    pilot.steer(world);
+    return world.getSnake();
+  }
+}
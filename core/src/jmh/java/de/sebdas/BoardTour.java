@@ -0,0 +1,33 @@
+package de.sebdas;
+
+/**
+ * The {@link HamiltonianCycle} with its origin in the top left corner, which lets the benchmarks steer
+ * snakes of any length without ever colliding. Its directions are computed on the fly rather than
+ * looked up in the tables of the cycle, which would not fit into memory for the largest boards.
+ */
+final class BoardTour {
+  private final Grid grid;
+
+  BoardTour(final Grid grid) {
+    this.grid = grid;
+  }
+
+  /** @return a snake of the given length whose body lies on the tour */
+  Snake createSnake(final int length) {
+    final Snake snake = new Snake(new Coordinate(2, 0), new Occupancy(grid));
+    while (snake.getLength() < length) {
+      steer(snake);
+      snake.grow();
+    }
+    return snake;
+  }
+
+  void steer(final Snake snake) {
+    final int head = snake.getHeadCell();
+    final Direction direction = HamiltonianCycle.directionAt(grid, grid.x(head), grid.y(head));
+    if      (direction == Directions.left())  snake.turnLeft();
+    else if (direction == Directions.right()) snake.turnRight();
+    else if (direction == Directions.up())    snake.turnUp();
+    else                                      snake.turnDown();
+  }
+}
@@ -0,0 +1,56 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A tick of a snake touring the board followed by the distance to a cell ahead of it, once answered by
+ * the lazy {@link DistanceField} and once after a complete breadth-first search over the board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceFieldBenchmark {
+  private static final int QUERY_OFFSET = 20;
+
+  @Param({"128", "1024"})
+  private int boardSize;
+
+  private Grid grid;
+  private Snake snake;
+  private BoardTour tour;
+  private DistanceField field;
+
+  @Setup
+  public void setup() {
+    grid = new Grid(boardSize, boardSize);
+    tour = new BoardTour(grid);
+    snake = tour.createSnake(200);
+    field = new DistanceField(grid);
+  }
+
+  private int tickAndQueryCell() {
+    tour.steer(snake);
+    snake.move();
+    field.invalidate();
+    final int head = snake.getHeadCell();
+    return grid.cell((grid.x(head) + QUERY_OFFSET) % boardSize, (grid.y(head) + QUERY_OFFSET) % boardSize);
+  }
+
+  @Benchmark
+  public int lazy() {
+    final int cell = tickAndQueryCell();
+    return field.distance(snake, cell);
+  }
+
+  @Benchmark
+  public int full() {
+    final int cell = tickAndQueryCell();
+    field.complete(snake);
+    return field.distance(snake, cell);
+  }
+}
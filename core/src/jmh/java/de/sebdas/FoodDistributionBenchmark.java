@@ -0,0 +1,94 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the weighted food distributions with the naive approach of summing up the weights of all
+ * free cells and scanning for the drawn one, which costs O(board) per bite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FoodDistributionBenchmark {
+
+  @Param({"64", "512", "2048"})
+  private int boardSize;
+
+  private final Random random = new Random(4711);
+  private Grid grid;
+  private BoardTour tour;
+  private Snake snake;
+  private WeightedFoodDistribution nearWalls;
+  private FarFromHeadFoodDistribution farFromHead;
+
+  @Setup
+  public void setup() {
+    grid = new Grid(boardSize, boardSize);
+    tour = new BoardTour(grid);
+    snake = tour.createSnake(boardSize * 4);
+
+    nearWalls = WeightedFoodDistribution.nearWalls();
+    nearWalls.attach(snake.getOccupancy());
+    farFromHead = new FarFromHeadFoodDistribution();
+    farFromHead.attach(snake.getOccupancy());
+  }
+
+  @Benchmark
+  public int nearWalls() {
+    return nearWalls.nextBite(snake, random);
+  }
+
+  @Benchmark
+  public int naiveNearWalls() {
+    return naiveNextBite(WeightedFoodDistribution.NEAR_WALLS);
+  }
+
+  @Benchmark
+  public int farFromHead() {
+    return farFromHead.nextBite(snake, random);
+  }
+
+  @Benchmark
+  public int naiveFarFromHead() {
+    final int head = snake.getHeadCell();
+    return naiveNextBite((grid, x, y) -> torusDistance(x - grid.x(head), grid.getWidth()) +
+                                         torusDistance(y - grid.y(head), grid.getHeight()));
+  }
+
+  /* the cost of following the snake, which the naive approach does not have */
+  @Benchmark
+  public Snake moveWithNearWalls() {
+    tour.steer(snake);
+    snake.move();
+    return snake;
+  }
+
+  private static int torusDistance(final int offset, final int size) {
+    final int distance = Math.abs(offset);
+    return Math.min(distance, size - distance);
+  }
+
+  private int naiveNextBite(final WeightedFoodDistribution.Weights weights) {
+    final Occupancy occupancy = snake.getOccupancy();
+    long total = 0;
+    for (int cell = 0; cell < grid.capacity(); cell++) {
+      if (!occupancy.isOccupied(cell)) {
+        total += weights.weightOf(grid, grid.x(cell), grid.y(cell));
+      }
+    }
+    long target = (long) (random.nextDouble() * total);
+    for (int cell = 0; cell < grid.capacity(); cell++) {
+      if (!occupancy.isOccupied(cell)) {
+        target -= weights.weightOf(grid, grid.x(cell), grid.y(cell));
+        if (target < 0) return cell;
+      }
+    }
+    return Occupancy.NO_CELL;
+  }
+}
@@ -0,0 +1,53 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A tick of a snake touring the board followed by the size of the region ahead of it, once tracked
+ * incrementally by {@link FreeRegions} and once rebuilt from scratch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeRegionsBenchmark {
+
+  @Param({"128", "1024"})
+  private int boardSize;
+
+  private Grid grid;
+  private Snake snake;
+  private BoardTour tour;
+  private FreeRegions regions;
+
+  @Setup
+  public void setup() {
+    grid = new Grid(boardSize, boardSize);
+    tour = new BoardTour(grid);
+    snake = tour.createSnake(200);
+    regions = new FreeRegions(grid);
+    regions.attach(snake.getOccupancy());
+  }
+
+  private int tick() {
+    tour.steer(snake);
+    snake.move();
+    return grid.move(snake.getHeadCell(), snake.getDirection());
+  }
+
+  @Benchmark
+  public int incremental() {
+    return regions.reachableCount(tick());
+  }
+
+  @Benchmark
+  public int rebuild() {
+    final int cell = tick();
+    regions.invalidate();
+    return regions.reachableCount(cell);
+  }
+}
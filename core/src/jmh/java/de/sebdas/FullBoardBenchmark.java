@@ -0,0 +1,37 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Plays whole games with the {@link HamiltonianPilot} until the snake fills the board. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FullBoardBenchmark {
+
+  @Param({"16", "64", "128"})
+  private int boardSize;
+
+  private World world;
+  private HamiltonianPilot pilot;
+
+  @Setup(Level.Invocation)
+  public void setup() {
+    world = new World(boardSize, boardSize, 42L);
+    pilot = new HamiltonianPilot();
+  }
+
+  @Benchmark
+  public int fillBoard() {
+    final int capacity = world.getGrid().capacity();
+    while (world.noCollisionDetected() && world.getSnake().getLength() < capacity) {
+      pilot.steer(world);
+      world.pulse();
+    }
+    return world.getSnake().getLength();
+  }
+}
@@ -0,0 +1,52 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single decision of the {@link MonteCarloPilot} within the default budget, reporting the rollouts it
+ * achieved per tick as an auxiliary counter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonteCarloPilotBenchmark {
+
+  @Param({"16", "64"})
+  private int boardSize;
+
+  @Param({"1", "4"})
+  private int threads;
+
+  private World world;
+  private MonteCarloPilot pilot;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Rollouts {
+    public long rollouts;
+  }
+
+  @Setup
+  public void setup() {
+    world = new World(boardSize, boardSize, 42L);
+    world.setSnake(new BoardTour(world.getGrid()).createSnake(boardSize * 2));
+    pilot = new MonteCarloPilot(threads);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pilot.close();
+  }
+
+  @Benchmark
+  public World steer(final Rollouts rollouts) {
+    pilot.steer(world);
+    rollouts.rollouts += pilot.getLastRollouts();
+    return world;
+  }
+}
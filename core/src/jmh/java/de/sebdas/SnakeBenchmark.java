@@ -0,0 +1,51 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnakeBenchmark {
+  private static final int MAX_GROWN_LENGTH = 1 << 20;
+
+  @Param({"16", "2048", "46340"})
+  private int boardSize;
+
+  @Param({"3", "200"})
+  private int snakeLength;
+
+  private int maxLength;
+  private BoardTour tour;
+  private Snake movingSnake;
+  private Snake growingSnake;
+
+  @Setup
+  public void setup() {
+    maxLength = Math.min(boardSize * boardSize, MAX_GROWN_LENGTH);
+    tour = new BoardTour(new Grid(boardSize, boardSize));
+    movingSnake = tour.createSnake(snakeLength);
+    growingSnake = tour.createSnake(snakeLength);
+  }
+
+  @Benchmark
+  public Snake move() {
+    tour.steer(movingSnake);
+    movingSnake.move();
+    return movingSnake;
+  }
+
+  @Benchmark
+  public Snake grow() {
+    if (growingSnake.getLength() == maxLength) {
+      growingSnake = tour.createSnake(snakeLength); // amortized over up to a million grow() calls
+    }
+    tour.steer(growingSnake);
+    growingSnake.grow();
+    return growingSnake;
+  }
+}
@@ -0,0 +1,60 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares game ticks per time between a {@link World} per game and a {@link WorldBatch}, each game
+ * heading straight on and restarting after a collision.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBatchBenchmark {
+  private static final int GAMES = 4096;
+
+  @Param({"16", "64"})
+  private int boardSize;
+
+  private World[] worlds;
+  private WorldBatch batch;
+
+  @Setup
+  public void setup() {
+    final long[] seeds = new long[GAMES];
+    worlds = new World[GAMES];
+    for (int game = 0; game < GAMES; game++) {
+      seeds[game] = game;
+      worlds[game] = new World(boardSize, boardSize, game);
+    }
+    batch = new WorldBatch(boardSize, boardSize, seeds);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public World[] objects() {
+    for (final World world : worlds) {
+      if (!world.noCollisionDetected()) {
+        world.reset();
+      }
+      world.pulse();
+    }
+    return worlds;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public WorldBatch batch() {
+    for (int game = 0; game < GAMES; game++) {
+      if (batch.isCollided(game)) {
+        batch.reset(game);
+      }
+    }
+    batch.tick();
+    return batch;
+  }
+}
@@ -0,0 +1,46 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBenchmark {
+
+  @Param({"16", "1024", "46340"})
+  private int boardSize;
+
+  @Param({"3", "75", "250"})
+  private int snakeLength;
+
+  private World world;
+  private BoardTour tour;
+
+  @Setup
+  public void setup() {
+    world = new World(boardSize, boardSize);
+    tour = new BoardTour(world.getGrid());
+    world.setSnake(tour.createSnake(snakeLength));
+    world.setFood(Set.of());
+  }
+
+  @Benchmark
+  public Snake pulse() {
+    final Snake snake = world.getSnake();
+    tour.steer(snake);
+    world.pulse();
+    return snake;
+  }
+
+  @Benchmark
+  public World createFood() {
+    world.createFood();
+    return world;
+  }
+}
@@ -0,0 +1,50 @@
+package de.sebdas;
+
+import java.util.Random;
+
+/** Draws indices with probabilities proportional to fixed weights in O(1), using Vose's alias method. */
+final class AliasTable {
+  private final double[] probabilities;
+  private final int[] aliases;
+
+  AliasTable(final double[] weights) {
+    final int n = weights.length;
+    this.probabilities = new double[n];
+    this.aliases = new int[n];
+
+    double sum = 0.0;
+    for (final double weight : weights) {
+      sum += weight;
+    }
+    if (!(sum > 0.0)) {
+      throw new IllegalArgumentException("Weights must have a positive sum");
+    }
+
+    final double[] scaled = new double[n];
+    final int[] small = new int[n];
+    final int[] large = new int[n];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < n; i++) {
+      scaled[i] = weights[i] * n / sum;
+      if (scaled[i] < 1.0) small[smallCount++] = i;
+      else                 large[largeCount++] = i;
+    }
+    while (smallCount > 0 && largeCount > 0) {
+      final int less = small[--smallCount];
+      final int more = large[--largeCount];
+      probabilities[less] = scaled[less];
+      aliases[less] = more;
+      scaled[more] = scaled[more] + scaled[less] - 1.0;
+      if (scaled[more] < 1.0) small[smallCount++] = more;
+      else                    large[largeCount++] = more;
+    }
+    while (largeCount > 0) probabilities[large[--largeCount]] = 1.0;
+    while (smallCount > 0) probabilities[small[--smallCount]] = 1.0; // only left over by rounding errors
+  }
+
+  int sample(final Random random) {
+    final int index = random.nextInt(probabilities.length);
+    return random.nextDouble() < probabilities[index] ? index : aliases[index];
+  }
+}
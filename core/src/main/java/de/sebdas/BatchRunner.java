@@ -0,0 +1,82 @@
+package de.sebdas;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+/**
+ * Plays many independent games headlessly and in parallel on a {@link ForkJoinPool}, e.g. to evaluate
+ * a {@link Pilot}. Games share nothing, so the throughput scales with the cores.
+ * <p>
+ * Each game gets its own {@link SplittableRandom}, seeded from the batch seed and the game's index, so
+ * that the results do not depend on the parallelism. It seeds the world, whose own generator is
+ * unsynchronized as well, and is handed to the pilot.
+ */
+final class BatchRunner {
+  private final int width;
+  private final int height;
+  private final long maxTicks;
+  private final Function<SplittableRandom, Pilot> pilots;
+
+  /** usage: {@code BatchRunner [games] [width] [height] [maxTicks] [threads]}, plays games with a {@link GreedyPilot} */
+  public static void main(final String[] args) throws InterruptedException {
+    final int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+    final int width = args.length > 1 ? Integer.parseInt(args[1]) : World.DEFAULT_WIDTH_TILES;
+    final int height = args.length > 2 ? Integer.parseInt(args[2]) : World.DEFAULT_HEIGHT_TILES;
+    final long maxTicks = args.length > 3 ? Long.parseLong(args[3]) : 100_000;
+    final int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+    final BatchRunner runner = new BatchRunner(width, height, maxTicks, random -> new GreedyPilot());
+    final ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      final long start = System.nanoTime();
+      final BatchStatistics statistics = runner.run(games, 42L, pool);
+      final double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+      System.out.println(statistics);
+      System.out.printf("%d threads: %.0f games/s, %.0f ticks/s%n", threads,
+                        games / seconds, statistics.getTicks().getSum() / seconds);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * @param maxTicks stops games that the pilot would otherwise play forever
+   * @param pilots   creates the pilot of a game from the game's random generator
+   */
+  BatchRunner(final int width, final int height, final long maxTicks, final Function<SplittableRandom, Pilot> pilots) {
+    this.width = width;
+    this.height = height;
+    this.maxTicks = maxTicks;
+    this.pilots = pilots;
+  }
+
+  BatchStatistics run(final int games, final long seed, final ForkJoinPool pool) throws InterruptedException {
+    try {
+      return pool.submit(() -> LongStream.range(0, games)
+                                         .parallel()
+                                         .mapToObj(game -> play(new SplittableRandom(seed + game).split()))
+                                         .collect(BatchStatistics::new, BatchStatistics::accept, BatchStatistics::combine))
+                 .get();
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /** plays a single game until the snake collides or the maximum ticks are reached */
+  GameResult play(final SplittableRandom random) {
+    final long seed = random.nextLong();
+    final World world = new World(width, height, seed);
+    final Pilot pilot = pilots.apply(random.split());
+    while (world.noCollisionDetected() && world.getTick() < maxTicks) {
+      pilot.steer(world);
+      world.pulse();
+    }
+    return new GameResult(seed, world.getTick(), world.getSnake().getLength(), !world.noCollisionDetected());
+  }
+}
@@ -0,0 +1,64 @@
+package de.sebdas;
+
+import java.util.LongSummaryStatistics;
+
+/** A mutable reduction of {@link GameResult}s, to be used as the container of a (parallel) stream collect. */
+final class BatchStatistics {
+  private final LongSummaryStatistics ticks = new LongSummaryStatistics();
+  private final LongSummaryStatistics lengths = new LongSummaryStatistics();
+  private long collisions;
+  private GameResult best;
+
+  void accept(final GameResult result) {
+    ticks.accept(result.getTicks());
+    lengths.accept(result.getLength());
+    if (result.isCollided()) {
+      collisions++;
+    }
+    if (best == null || isBetter(result, best)) {
+      best = result;
+    }
+  }
+
+  void combine(final BatchStatistics other) {
+    ticks.combine(other.ticks);
+    lengths.combine(other.lengths);
+    collisions += other.collisions;
+    if (other.best != null && (best == null || isBetter(other.best, best))) {
+      best = other.best;
+    }
+  }
+
+  /* the seed breaks ties, so that the best game does not depend on the order of the reduction */
+  private static boolean isBetter(final GameResult result, final GameResult other) {
+    if (result.getLength() != other.getLength()) return result.getLength() > other.getLength();
+    return result.getSeed() < other.getSeed();
+  }
+
+  long getGames() {
+    return ticks.getCount();
+  }
+
+  LongSummaryStatistics getTicks() {
+    return ticks;
+  }
+
+  LongSummaryStatistics getLengths() {
+    return lengths;
+  }
+
+  long getCollisions() {
+    return collisions;
+  }
+
+  /** @return the longest snake of all games, or null if there were none */
+  GameResult getBest() {
+    return best;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d games, %d collisions, length %s, ticks %s, best %s",
+                         getGames(), collisions, lengths, ticks, best);
+  }
+}
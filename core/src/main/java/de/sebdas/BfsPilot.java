@@ -0,0 +1,82 @@
+package de.sebdas;
+
+/**
+ * Steers along a shortest path to the nearest food, found by a breadth-first search over the free
+ * cells of the torus. The queue and the marks of the search are preallocated for the board and reused
+ * on every tick, so that steering does not allocate. A cell counts as visited if its mark equals the
+ * stamp of the current search, which spares clearing the marks between searches. If no food can be
+ * reached, the pilot merely avoids running into the snake.
+ */
+final class BfsPilot implements Pilot {
+  private final int[] neighbours = new int[4];
+  private Grid grid;
+  private int[] queue;
+  private int[] visited;
+  private int[] targets;
+  private byte[] firstSteps; // the code of the first direction on the path to a visited cell
+  private int stamp;
+
+  @Override
+  public void steer(final World world) {
+    prepare(world.getGrid());
+    final Snake snake = world.getSnake();
+
+    Direction direction = searchFood(world, snake);
+    if (direction == null) {
+      direction = anyFreeDirection(snake);
+    }
+    if (direction != snake.getDirection()) {
+      world.onTurn(direction);
+    }
+  }
+
+  private void prepare(final Grid grid) {
+    if (grid == this.grid) return;
+    this.grid = grid;
+    this.queue = new int[grid.capacity()];
+    this.visited = new int[grid.capacity()];
+    this.targets = new int[grid.capacity()];
+    this.firstSteps = new byte[grid.capacity()];
+    this.stamp = 0;
+  }
+
+  private Direction searchFood(final World world, final Snake snake) {
+    if (world.getFoodCount() == 0) return null;
+    stamp = Epochs.next(stamp, visited, targets);
+    for (int i = 0; i < world.getFoodCount(); i++) {
+      targets[world.getFoodCell(i)] = stamp;
+    }
+
+    final int head = snake.getHeadCell();
+    final int straight = Directions.codeOf(snake.getDirection());
+    visited[head] = stamp;
+    queue[0] = head;
+    int first = 0;
+    int last = 1;
+    while (first < last) {
+      final int cell = queue[first++];
+      grid.neighbours(cell, neighbours);
+      for (int i = 0; i < 4; i++) {
+        final int code = straight ^ i; // straight ahead first, to prefer it among equally short ways
+        final int next = neighbours[code];
+        if (visited[next] == stamp || snake.isOccupied(next)) continue;
+        final byte firstStep = cell == head ? (byte) code : firstSteps[cell];
+        if (targets[next] == stamp) return Directions.ofCode(firstStep);
+        visited[next] = stamp;
+        firstSteps[next] = firstStep;
+        queue[last++] = next;
+      }
+    }
+    return null;
+  }
+
+  private Direction anyFreeDirection(final Snake snake) {
+    final int head = snake.getHeadCell();
+    final int straight = Directions.codeOf(snake.getDirection());
+    for (int i = 0; i < 4; i++) {
+      final Direction direction = Directions.ofCode(straight ^ i);
+      if (i != 1 && !snake.isOccupied(grid.move(head, direction))) return direction;
+    }
+    return snake.getDirection();
+  }
+}
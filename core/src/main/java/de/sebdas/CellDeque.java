@@ -0,0 +1,96 @@
+package de.sebdas;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A double-ended queue of packed {@link Grid} cells backed by a primitive ring buffer with head/tail
+ * indices. The buffer doubles on demand up to a fixed maximum capacity, so that a short snake on a huge
+ * board does not preallocate the whole board; it never shrinks, so moving without growing never allocates.
+ */
+final class CellDeque {
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int maxCapacity;
+  private int[] cells;
+  private int first;
+  private int size;
+
+  CellDeque(final int maxCapacity) {
+    this.maxCapacity = maxCapacity;
+    this.cells = new int[Math.min(INITIAL_CAPACITY, maxCapacity)];
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** @return the cell at the given index, counted from the first cell */
+  int get(final int index) {
+    if (index < 0 || size <= index) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return cells[wrap(first + index)];
+  }
+
+  int getFirst() {
+    if (isEmpty()) throw new NoSuchElementException();
+    return cells[first];
+  }
+
+  int getLast() {
+    if (isEmpty()) throw new NoSuchElementException();
+    return cells[wrap(first + size - 1)];
+  }
+
+  void addFirst(final int cell) {
+    ensureCapacity();
+    first = first == 0 ? cells.length - 1 : first - 1;
+    cells[first] = cell;
+    size++;
+  }
+
+  void addLast(final int cell) {
+    ensureCapacity();
+    cells[wrap(first + size)] = cell;
+    size++;
+  }
+
+  int removeLast() {
+    final int last = getLast();
+    size--;
+    return last;
+  }
+
+  /** makes this deque equal to the other one, reusing the buffer if it is large enough */
+  void copyFrom(final CellDeque other) {
+    if (cells.length < other.size) {
+      cells = new int[other.cells.length];
+    }
+    final int firstPart = Math.min(other.size, other.cells.length - other.first);
+    System.arraycopy(other.cells, other.first, cells, 0, firstPart);
+    System.arraycopy(other.cells, 0, cells, firstPart, other.size - firstPart);
+    first = 0;
+    size = other.size;
+  }
+
+  private void ensureCapacity() {
+    if (size < cells.length) return;
+    if (size == maxCapacity) {
+      throw new IllegalStateException("Capacity of " + maxCapacity + " cells exceeded");
+    }
+    final int[] grown = new int[(int) Math.min(2L * cells.length, maxCapacity)];
+    for (int i = 0; i < size; i++) {
+      grown[i] = cells[wrap(first + i)];
+    }
+    cells = grown;
+    first = 0;
+  }
+
+  private int wrap(final int index) {
+    return index < cells.length ? index : index - cells.length;
+  }
+}
@@ -0,0 +1,123 @@
+package de.sebdas;
+
+import java.util.Arrays;
+
+/**
+ * A set of packed {@link Grid} cells that neither boxes nor allocates on lookup, insertion or removal
+ * once its capacity suffices. Members are kept densely packed for cheap iteration, and an open-addressing
+ * table (linear probing) maps each cell to its slot.
+ */
+final class CellSet {
+  private static final int INITIAL_CAPACITY = 8;
+  private static final int EMPTY = -1;
+
+  private int[] elements;
+  private int[] table;
+  private int size;
+
+  CellSet() {
+    this.elements = new int[INITIAL_CAPACITY];
+    this.table = newTable(INITIAL_CAPACITY * 2);
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** @return the member at the given index, in no particular order */
+  int get(final int index) {
+    if (index < 0 || size <= index) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return elements[index];
+  }
+
+  boolean contains(final int cell) {
+    return table[find(cell)] != EMPTY;
+  }
+
+  boolean add(final int cell) {
+    final int slot = find(cell);
+    if (table[slot] != EMPTY) return false;
+    if (size == elements.length) {
+      resize(elements.length * 2);
+      return add(cell);
+    }
+    elements[size] = cell;
+    table[slot] = size;
+    size++;
+    return true;
+  }
+
+  boolean remove(final int cell) {
+    final int slot = find(cell);
+    final int index = table[slot];
+    if (index == EMPTY) return false;
+
+    size--;
+    if (index != size) {
+      final int moved = elements[size];
+      final int movedSlot = find(moved);
+      elements[index] = moved;
+      table[movedSlot] = index;
+    }
+    deleteSlot(slot);
+    return true;
+  }
+
+  void clear() {
+    Arrays.fill(table, EMPTY);
+    size = 0;
+  }
+
+  private int find(final int cell) {
+    final int mask = table.length - 1;
+    int slot = hash(cell) & mask;
+    while (table[slot] != EMPTY && elements[table[slot]] != cell) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /* backward-shift deletion keeps every probe chain free of holes, so no tombstones are needed */
+  private void deleteSlot(int hole) {
+    final int mask = table.length - 1;
+    int slot = hole;
+    while (true) {
+      slot = (slot + 1) & mask;
+      final int index = table[slot];
+      if (index == EMPTY) break;
+      final int home = hash(elements[index]) & mask;
+      if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+        table[hole] = index;
+        hole = slot;
+      }
+    }
+    table[hole] = EMPTY;
+  }
+
+  private void resize(final int capacity) {
+    final int[] oldElements = elements;
+    elements = new int[capacity];
+    System.arraycopy(oldElements, 0, elements, 0, size);
+    table = newTable(capacity * 2);
+    for (int i = 0; i < size; i++) {
+      table[find(elements[i])] = i;
+    }
+  }
+
+  private static int[] newTable(final int length) {
+    final int[] table = new int[length];
+    Arrays.fill(table, EMPTY);
+    return table;
+  }
+
+  private static int hash(final int cell) {
+    final int h = cell * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
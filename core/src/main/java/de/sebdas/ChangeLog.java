@@ -0,0 +1,64 @@
+package de.sebdas;
+
+/**
+ * The cells of a {@link World} that changed since the log was last cleared, i.e. the cells that snakes
+ * entered or left and the cells where food was placed or taken away, e.g. to repaint only those.
+ * <p>
+ * Once more than a quarter of the board changed, or the world changed as a whole, the log just notes
+ * that everything changed, since repainting everything is cheaper then.
+ */
+final class ChangeLog implements OccupancyListener {
+  private static final int MIN_LIMIT = 16;
+
+  private final CellSet cells;
+  private final int limit;
+  private boolean everything;
+
+  ChangeLog(final Grid grid) {
+    this.cells = new CellSet();
+    this.limit = Math.max(MIN_LIMIT, grid.capacity() / 4);
+    this.everything = true;
+  }
+
+  /** @return whether so much changed that the changed cells are no longer logged */
+  boolean isEverything() {
+    return everything;
+  }
+
+  int size() {
+    return cells.size();
+  }
+
+  /** @return the changed cell at the given index, in no particular order */
+  int get(final int index) {
+    return cells.get(index);
+  }
+
+  void add(final int cell) {
+    if (everything) return;
+    cells.add(cell);
+    if (cells.size() > limit) {
+      markEverything();
+    }
+  }
+
+  void markEverything() {
+    everything = true;
+    cells.clear();
+  }
+
+  void clear() {
+    everything = false;
+    cells.clear();
+  }
+
+  @Override
+  public void cellOccupied(final int cell) {
+    add(cell);
+  }
+
+  @Override
+  public void cellReleased(final int cell) {
+    add(cell);
+  }
+}
@@ -0,0 +1,192 @@
+package de.sebdas;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * A set of {@link Grid} cells stored as bits in square chunks of 64 x 64 cells, which are only
+ * allocated while at least one of their cells is set. Memory therefore scales with the area that is
+ * actually occupied rather than with the size of the board. Released chunks are kept for reuse, so
+ * a snake wandering back and forth across a chunk border does not allocate on every tick.
+ * <p>
+ * On demand, the clear cells of each chunk are counted in a {@link FenwickTree}, which allows to
+ * select the n-th clear cell in O(log chunks) plus a scan of the rows of a single chunk.
+ */
+final class ChunkedBitSet {
+  private static final int CHUNK_SHIFT = 6;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  private static final int MAX_SPARE_CHUNKS = 16;
+
+  private final Grid grid;
+  private final int chunksPerRow;
+  private final long[][] chunks;
+  private final int[] populations;
+  private final Deque<long[]> spareChunks;
+  private int allocatedChunks;
+  private FenwickTree clearCounts;
+
+  ChunkedBitSet(final Grid grid) {
+    this.grid = grid;
+    this.chunksPerRow = chunkCount(grid.getWidth());
+    this.chunks = new long[chunksPerRow * chunkCount(grid.getHeight())][];
+    this.populations = new int[chunks.length];
+    this.spareChunks = new ArrayDeque<>(MAX_SPARE_CHUNKS);
+  }
+
+  private static int chunkCount(final int size) {
+    return (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+  }
+
+  boolean get(final int cell) {
+    return get(grid.x(cell), grid.y(cell));
+  }
+
+  /** spares the division of a cell into coordinates, where the caller knows them anyway */
+  boolean get(final int x, final int y) {
+    final long[] chunk = chunks[chunkIndex(x, y)];
+    return chunk != null && (chunk[y & CHUNK_MASK] & bit(x)) != 0;
+  }
+
+  void set(final int cell) {
+    final int x = grid.x(cell);
+    final int y = grid.y(cell);
+    final int chunkIndex = chunkIndex(x, y);
+    long[] chunk = chunks[chunkIndex];
+    if (chunk == null) {
+      chunk = allocateChunk();
+      chunks[chunkIndex] = chunk;
+    }
+    final long row = chunk[y & CHUNK_MASK];
+    if ((row & bit(x)) == 0) {
+      chunk[y & CHUNK_MASK] = row | bit(x);
+      populations[chunkIndex]++;
+      if (clearCounts != null) {
+        clearCounts.add(chunkIndex, -1);
+      }
+    }
+  }
+
+  void clear(final int cell) {
+    final int x = grid.x(cell);
+    final int y = grid.y(cell);
+    final int chunkIndex = chunkIndex(x, y);
+    final long[] chunk = chunks[chunkIndex];
+    if (chunk == null) return;
+    final long row = chunk[y & CHUNK_MASK];
+    if ((row & bit(x)) != 0) {
+      chunk[y & CHUNK_MASK] = row & ~bit(x);
+      if (clearCounts != null) {
+        clearCounts.add(chunkIndex, 1);
+      }
+      if (--populations[chunkIndex] == 0) {
+        chunks[chunkIndex] = null;
+        releaseChunk(chunk);
+      }
+    }
+  }
+
+  /** @return the number of chunks currently holding set cells */
+  int getAllocatedChunks() {
+    return allocatedChunks;
+  }
+
+  /** makes this set equal to the other one on a board of the same size, reusing the allocated chunks */
+  void copyFrom(final ChunkedBitSet other) {
+    for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+      final long[] source = other.chunks[chunkIndex];
+      long[] chunk = chunks[chunkIndex];
+      if (source == null) {
+        if (chunk != null) {
+          Arrays.fill(chunk, 0L);
+          chunks[chunkIndex] = null;
+          releaseChunk(chunk);
+        }
+      } else {
+        if (chunk == null) {
+          chunk = allocateChunk();
+          chunks[chunkIndex] = chunk;
+        }
+        System.arraycopy(source, 0, chunk, 0, CHUNK_SIZE);
+      }
+    }
+    System.arraycopy(other.populations, 0, populations, 0, populations.length);
+    clearCounts = null; // rebuilt on demand
+  }
+
+  /** from now on counts the clear cells, which costs O(chunks) once and O(log chunks) on every change */
+  void indexClearCells() {
+    if (clearCounts != null) return;
+    final long[] counts = new long[chunks.length];
+    for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+      counts[chunkIndex] = chunkWidth(chunkIndex) * chunkHeight(chunkIndex) - populations[chunkIndex];
+    }
+    clearCounts = new FenwickTree(counts);
+  }
+
+  boolean isClearCellIndexed() {
+    return clearCounts != null;
+  }
+
+  /**
+   * Requires {@link #indexClearCells()}. The order of the clear cells depends only on which cells are
+   * set, not on the order in which they were set.
+   *
+   * @param n less than the number of clear cells
+   * @return the n-th clear cell, ordered by chunk, then by row, then by column
+   */
+  int selectClear(final int n) {
+    final int chunkIndex = clearCounts.find(n);
+    int remaining = (int) (n - clearCounts.prefixSum(chunkIndex));
+
+    final long[] chunk = chunks[chunkIndex];
+    final int width = chunkWidth(chunkIndex);
+    final long columns = width == CHUNK_SIZE ? -1L : (1L << width) - 1;
+    for (int row = 0; row < chunkHeight(chunkIndex); row++) {
+      long clear = ~(chunk == null ? 0L : chunk[row]) & columns;
+      final int clearCount = Long.bitCount(clear);
+      if (remaining < clearCount) {
+        for (int i = 0; i < remaining; i++) {
+          clear &= clear - 1;
+        }
+        final int x = ((chunkIndex % chunksPerRow) << CHUNK_SHIFT) + Long.numberOfTrailingZeros(clear);
+        final int y = ((chunkIndex / chunksPerRow) << CHUNK_SHIFT) + row;
+        return grid.cell(x, y);
+      }
+      remaining -= clearCount;
+    }
+    throw new IllegalStateException("Clear cell count out of sync in chunk " + chunkIndex);
+  }
+
+  /* chunks at the right and bottom edge of the board may be cut off */
+  private int chunkWidth(final int chunkIndex) {
+    return Math.min(CHUNK_SIZE, grid.getWidth() - ((chunkIndex % chunksPerRow) << CHUNK_SHIFT));
+  }
+
+  private int chunkHeight(final int chunkIndex) {
+    return Math.min(CHUNK_SIZE, grid.getHeight() - ((chunkIndex / chunksPerRow) << CHUNK_SHIFT));
+  }
+
+  private int chunkIndex(final int x, final int y) {
+    return (y >>> CHUNK_SHIFT) * chunksPerRow + (x >>> CHUNK_SHIFT);
+  }
+
+  private static long bit(final int x) {
+    return 1L << (x & CHUNK_MASK);
+  }
+
+  private long[] allocateChunk() {
+    allocatedChunks++;
+    final long[] spareChunk = spareChunks.poll();
+    return spareChunk != null ? spareChunk : new long[CHUNK_SIZE];
+  }
+
+  /* a released chunk is all zeros again, since its last set bit has just been cleared */
+  private void releaseChunk(final long[] chunk) {
+    allocatedChunks--;
+    if (spareChunks.size() < MAX_SPARE_CHUNKS) {
+      spareChunks.push(chunk);
+    }
+  }
+}
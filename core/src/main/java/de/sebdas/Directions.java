@@ -7,6 +7,7 @@ final class Directions {
   private static final Direction RIGHT = new DirectionRight();
   private static final Direction UP = new DirectionUp();
   private static final Direction DOWN = new DirectionDown();
+  private static final Direction[] BY_CODE = {LEFT, RIGHT, UP, DOWN};
 
   static Direction left() {
     return LEFT;
@@ -24,6 +25,21 @@ final class Directions {
     return DOWN;
   }
 
+  /** @return a compact code for the direction, e.g. for recordings */
+  static int codeOf(final Direction direction) {
+    for (int code = 0; code < BY_CODE.length; code++) {
+      if (BY_CODE[code] == direction) return code;
+    }
+    throw new IllegalArgumentException("Unknown direction: " + direction);
+  }
+
+  static Direction ofCode(final int code) {
+    if (code < 0 || BY_CODE.length <= code) {
+      throw new IllegalArgumentException("Unknown direction code: " + code);
+    }
+    return BY_CODE[code];
+  }
+
   private static class DirectionLeft extends Direction {
     DirectionLeft() {
       super(-1,  0);
@@ -0,0 +1,90 @@
+package de.sebdas;
+
+/**
+ * The distances from the head of a snake to the cells of the board, in steps over free cells, wrapping
+ * around the edges.
+ * <p>
+ * The field is not recomputed by a breadth-first search over the whole board on every pulse, but
+ * expanded lazily: a query runs the search just until the queried cell is reached, and the next query
+ * resumes where the last one stopped. A pulse merely starts a new epoch, which invalidates the stamped
+ * marks of the previous one in O(1). The cost of a tick is thus in proportion to the distances asked for,
+ * rather than to the board. Repairing the previous field would not be cheaper, since moving the head by
+ * one cell changes the distances of nearly all cells.
+ */
+final class DistanceField {
+  static final int UNREACHABLE = -1;
+
+  private final Grid grid;
+  private final int[] stamps;
+  private final int[] distances;
+  private final int[] queue;
+  private final int[] neighbours;
+  private Snake snake;
+  private int epoch;
+  private int first;
+  private int last;
+
+  DistanceField(final Grid grid) {
+    this.grid = grid;
+    this.stamps = new int[grid.capacity()];
+    this.distances = new int[grid.capacity()];
+    this.queue = new int[grid.capacity()];
+    this.neighbours = new int[4];
+  }
+
+  /** starts over from the current head of the snake, once the next distance is asked for */
+  void invalidate() {
+    snake = null;
+  }
+
+  /** @return the distance from the head of the snake to the cell, or {@link #UNREACHABLE} */
+  int distance(final Snake snake, final int cell) {
+    if (snake != this.snake) {
+      start(snake);
+    }
+    if (stamps[cell] == epoch) return distances[cell];
+    if (snake.isOccupied(cell)) return UNREACHABLE;
+
+    while (first < last) {
+      expand(queue[first++]);
+      if (stamps[cell] == epoch) return distances[cell];
+    }
+    return UNREACHABLE;
+  }
+
+  /** runs the search to its end, e.g. to compare with the lazy expansion */
+  void complete(final Snake snake) {
+    if (snake != this.snake) {
+      start(snake);
+    }
+    while (first < last) {
+      expand(queue[first++]);
+    }
+  }
+
+  private void start(final Snake snake) {
+    this.snake = snake;
+    epoch = Epochs.next(epoch, stamps);
+    final int head = snake.getHeadCell();
+    stamps[head] = epoch;
+    distances[head] = 0;
+    queue[0] = head;
+    first = 0;
+    last = 1;
+  }
+
+  private void expand(final int cell) {
+    grid.neighbours(cell, neighbours);
+    final int distance = distances[cell] + 1;
+    for (int i = 0; i < neighbours.length; i++) {
+      visit(neighbours[i], distance);
+    }
+  }
+
+  private void visit(final int cell, final int distance) {
+    if (stamps[cell] == epoch || snake.isOccupied(cell)) return;
+    stamps[cell] = epoch;
+    distances[cell] = distance;
+    queue[last++] = cell;
+  }
+}
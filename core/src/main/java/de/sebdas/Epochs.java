@@ -0,0 +1,30 @@
+package de.sebdas;
+
+import java.util.Arrays;
+
+/**
+ * Epochs mark the cells that a search or a pulse has visited, so that starting a new epoch invalidates
+ * all marks of the previous one in O(1) rather than by clearing them.
+ */
+final class Epochs {
+  private Epochs() {}
+
+  /**
+   * @return the epoch after the given one. Epochs are positive, so that a negated epoch can serve as a
+   * mark as well. Once they run out after 2^31 - 1 epochs, the marks are cleared and the epochs start
+   * over at 1, as the old marks would otherwise become valid again.
+   */
+  static int next(final int epoch, final int[] marks) {
+    if (epoch < Integer.MAX_VALUE) return epoch + 1;
+    Arrays.fill(marks, 0);
+    return 1;
+  }
+
+  /** like {@link #next(int, int[])}, for two arrays of marks of the same epochs */
+  static int next(final int epoch, final int[] marks, final int[] otherMarks) {
+    if (epoch < Integer.MAX_VALUE) return epoch + 1;
+    Arrays.fill(marks, 0);
+    Arrays.fill(otherMarks, 0);
+    return 1;
+  }
+}
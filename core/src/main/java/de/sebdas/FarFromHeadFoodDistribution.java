@@ -0,0 +1,47 @@
+package de.sebdas;
+
+import java.util.Random;
+
+/**
+ * Places food with a probability proportional to its distance from the snake's head on the torus.
+ * As the head moves every tick, the weights are not stored per cell but per offset from the head,
+ * in an {@link AliasTable} that is built once per board and sampled in O(1). Offsets that hit the
+ * snake are drawn again; after a few misses the bite falls back to a uniformly chosen free cell.
+ */
+final class FarFromHeadFoodDistribution implements FoodDistribution {
+  private static final int MAX_DRAWS = 16;
+
+  private Grid grid;
+  private AliasTable offsets;
+
+  @Override
+  public void attach(final Occupancy occupancy) {
+    final Grid attachedGrid = occupancy.getGrid();
+    if (grid != null && grid.getWidth() == attachedGrid.getWidth() && grid.getHeight() == attachedGrid.getHeight()) {
+      return;
+    }
+    grid = attachedGrid;
+    final double[] weights = new double[grid.capacity()];
+    for (int offset = 0; offset < weights.length; offset++) {
+      weights[offset] = torusDistance(grid.x(offset), grid.getWidth()) + torusDistance(grid.y(offset), grid.getHeight());
+    }
+    offsets = new AliasTable(weights);
+  }
+
+  private static int torusDistance(final int offset, final int size) {
+    return Math.min(offset, size - offset);
+  }
+
+  @Override
+  public int nextBite(final Snake snake, final Random random) {
+    final Occupancy occupancy = snake.getOccupancy();
+    final int head = snake.getHeadCell();
+    for (int draw = 0; draw < MAX_DRAWS; draw++) {
+      final int offset = offsets.sample(random);
+      final int cell = grid.cell((grid.x(head) + grid.x(offset)) % grid.getWidth(),
+                                 (grid.y(head) + grid.y(offset)) % grid.getHeight());
+      if (!occupancy.isOccupied(cell)) return cell;
+    }
+    return occupancy.randomFreeCell(random);
+  }
+}
@@ -0,0 +1,75 @@
+package de.sebdas;
+
+import java.util.Arrays;
+
+/**
+ * A binary indexed tree over non-negative {@code long} weights, supporting weight updates and
+ * drawing an index with a probability proportional to its weight, both in O(log n).
+ */
+final class FenwickTree {
+  private final long[] tree;
+  private final int highestBit;
+  private long total;
+
+  /** builds the tree in O(n) */
+  FenwickTree(final long[] weights) {
+    this.tree = new long[weights.length + 1];
+    this.highestBit = weights.length == 0 ? 0 : Integer.highestOneBit(weights.length);
+    rebuild(weights);
+  }
+
+  /** replaces all weights by the given ones, of which there must be as many as before, in O(n) */
+  void rebuild(final long[] weights) {
+    if (weights.length != size()) {
+      throw new IllegalArgumentException("Cannot rebuild a tree of " + size() + " weights from " + weights.length);
+    }
+    Arrays.fill(tree, 0L);
+    total = 0;
+    for (int i = 1; i < tree.length; i++) {
+      tree[i] += weights[i - 1];
+      total += weights[i - 1];
+      final int parent = i + (i & -i);
+      if (parent < tree.length) {
+        tree[parent] += tree[i];
+      }
+    }
+  }
+
+  int size() {
+    return tree.length - 1;
+  }
+
+  long total() {
+    return total;
+  }
+
+  void add(final int index, final long delta) {
+    total += delta;
+    for (int i = index + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  /** @return the sum of the weights of all indices below the given one */
+  long prefixSum(final int index) {
+    long sum = 0;
+    for (int i = index; i > 0; i -= i & -i) {
+      sum += tree[i];
+    }
+    return sum;
+  }
+
+  /** @return the smallest index whose prefix sum (inclusive) exceeds the target, which must be below {@link #total()} */
+  int find(final long target) {
+    int position = 0;
+    long remaining = target;
+    for (int bit = highestBit; bit > 0; bit >>= 1) {
+      final int next = position + bit;
+      if (next < tree.length && tree[next] <= remaining) {
+        position = next;
+        remaining -= tree[next];
+      }
+    }
+    return position;
+  }
+}
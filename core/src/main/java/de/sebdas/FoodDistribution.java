@@ -0,0 +1,23 @@
+package de.sebdas;
+
+import java.util.Random;
+
+/** Decides where {@link World} places new bites of food. */
+interface FoodDistribution {
+
+  /** called whenever the world starts playing on the given occupancy, e.g. on reset */
+  default void attach(final Occupancy occupancy) {}
+
+  /** called after the attached occupancy was overwritten in place, which its listeners are not told of */
+  default void resync(final Occupancy occupancy) {}
+
+  /** called when the world stops playing on the given occupancy */
+  default void detach(final Occupancy occupancy) {}
+
+  /** @return a free cell for the next bite, or {@link Occupancy#NO_CELL} if there is none */
+  int nextBite(Snake snake, Random random);
+
+  static FoodDistribution uniform() {
+    return (snake, random) -> snake.getOccupancy().randomFreeCell(random);
+  }
+}
@@ -0,0 +1,198 @@
+package de.sebdas;
+
+/**
+ * The connected regions of free cells of a board, wrapping around the edges, following the cells that
+ * an {@link Occupancy} occupies and releases.
+ * <p>
+ * The regions are held in a union-find structure. A released cell joins the regions of its free
+ * neighbours in nearly constant time. An occupied cell merely leaves its region, unless the free cells
+ * around it are no longer connected through its eight surrounding cells: only then may the region have
+ * been cut in two, and the regions are rebuilt once they are asked for next. A snake moving through open
+ * space thus never causes a search over the board.
+ * <p>
+ * Since a region cannot lose members in a union-find structure, each release gives the cell a fresh
+ * node, and the nodes of occupied cells remain as links within their trees until the next rebuild.
+ */
+final class FreeRegions implements OccupancyListener {
+  private static final int NO_NODE = -1;
+
+  private final Grid grid;
+  private final int[] nodes;
+  private final int[] parents;
+  private final int[] sizes;
+  private final int[] ring;
+  private final int[] neighbours;
+  private Occupancy occupancy;
+  private int nodeCount;
+  private int rebuildCount;
+  private boolean dirty;
+
+  FreeRegions(final Grid grid) {
+    this.grid = grid;
+    this.nodes = new int[grid.capacity()];
+    this.parents = new int[2 * grid.capacity()];
+    this.sizes = new int[2 * grid.capacity()];
+    this.ring = new int[8];
+    this.neighbours = new int[4];
+  }
+
+  void attach(final Occupancy occupancy) {
+    this.occupancy = occupancy;
+    occupancy.addListener(this);
+    dirty = true;
+  }
+
+  void detach(final Occupancy occupancy) {
+    occupancy.removeListener(this);
+    this.occupancy = null;
+  }
+
+  /** rebuilds the regions when asked for next, e.g. after the occupancy changed without telling */
+  void invalidate() {
+    dirty = true;
+  }
+
+  /** @return the number of free cells reachable from the cell including itself, or 0 if it is occupied */
+  int reachableCount(final int cell) {
+    update();
+    final int node = nodes[cell];
+    return node == NO_NODE ? 0 : sizes[find(node)];
+  }
+
+  /** @return whether both cells are free and connected over free cells */
+  boolean isConnected(final int cell, final int otherCell) {
+    update();
+    final int node = nodes[cell];
+    final int otherNode = nodes[otherCell];
+    return node != NO_NODE && otherNode != NO_NODE && find(node) == find(otherNode);
+  }
+
+  /** intended for testing only */
+  int getRebuildCount() {
+    return rebuildCount;
+  }
+
+  @Override
+  public void cellOccupied(final int cell) {
+    if (dirty) return;
+    final int node = nodes[cell];
+    sizes[find(node)]--;
+    nodes[cell] = NO_NODE;
+    if (mayCut(cell)) {
+      dirty = true;
+    }
+  }
+
+  @Override
+  public void cellReleased(final int cell) {
+    if (dirty) return;
+    if (nodeCount == parents.length) {
+      dirty = true;
+      return;
+    }
+    final int node = nodeCount++;
+    parents[node] = node;
+    sizes[node] = 1;
+    nodes[cell] = node;
+    grid.neighbours(cell, neighbours);
+    for (int i = 0; i < neighbours.length; i++) {
+      join(cell, neighbours[i]);
+    }
+  }
+
+  private void update() {
+    if (dirty) {
+      rebuild();
+    }
+  }
+
+  /* joining each cell with its right and lower neighbour covers all pairs of neighbours */
+  private void rebuild() {
+    for (int cell = 0; cell < nodes.length; cell++) {
+      final boolean free = !occupancy.isOccupied(cell);
+      nodes[cell] = free ? cell : NO_NODE;
+      parents[cell] = cell;
+      sizes[cell] = free ? 1 : 0;
+    }
+    nodeCount = nodes.length;
+    for (int cell = 0; cell < nodes.length; cell++) {
+      if (nodes[cell] == NO_NODE) continue;
+      grid.neighbours(cell, neighbours);
+      join(cell, neighbours[Directions.codeOf(Directions.right())]);
+      join(cell, neighbours[Directions.codeOf(Directions.down())]);
+    }
+    rebuildCount++;
+    dirty = false;
+  }
+
+  private void join(final int cell, final int neighbourCell) {
+    final int neighbour = nodes[neighbourCell];
+    if (neighbour == NO_NODE) return;
+    int root = find(nodes[cell]);
+    int otherRoot = find(neighbour);
+    if (root == otherRoot) return;
+    if (sizes[root] < sizes[otherRoot]) {
+      final int swap = root;
+      root = otherRoot;
+      otherRoot = swap;
+    }
+    parents[otherRoot] = root;
+    sizes[root] += sizes[otherRoot];
+  }
+
+  private int find(final int node) {
+    int root = node;
+    while (parents[root] != root) {
+      root = parents[root];
+    }
+    for (int current = node; parents[current] != root; ) {
+      final int next = parents[current];
+      parents[current] = root;
+      current = next;
+    }
+    return root;
+  }
+
+  /*
+   * The free neighbours of the cell remain connected if they lie on a single run of free cells around
+   * it, since each cell of the ring borders the next. Otherwise they may or may not be connected the
+   * long way round. On boards narrower than three cells the ring overlaps itself and nothing is assumed.
+   */
+  private boolean mayCut(final int cell) {
+    final int width = grid.getWidth();
+    final int height = grid.getHeight();
+    if (width < 3 || height < 3) return true;
+    final int x = cell % width;
+    final int y = cell / width;
+    final int left = x == 0 ? width - 1 : x - 1;
+    final int right = x == width - 1 ? 0 : x + 1;
+    final int up = y == 0 ? height - 1 : y - 1;
+    final int down = y == height - 1 ? 0 : y + 1;
+    ring[0] = up * width + x;
+    ring[1] = up * width + right;
+    ring[2] = y * width + right;
+    ring[3] = down * width + right;
+    ring[4] = down * width + x;
+    ring[5] = down * width + left;
+    ring[6] = y * width + left;
+    ring[7] = up * width + left;
+
+    int runsWithNeighbours = 0;
+    boolean neighbourInRun = false;
+    for (int i = 0; i < ring.length; i++) {
+      final boolean free = nodes[ring[i]] != NO_NODE;
+      if (free) {
+        neighbourInRun |= (i & 1) == 0;
+      } else if (neighbourInRun) {
+        runsWithNeighbours++;
+        neighbourInRun = false;
+      }
+    }
+    if (neighbourInRun) { // the last run continues into the first one if the ring starts with a free cell
+      if (nodes[ring[0]] == NO_NODE || runsWithNeighbours == 0) {
+        runsWithNeighbours++;
+      }
+    }
+    return runsWithNeighbours > 1;
+  }
+}
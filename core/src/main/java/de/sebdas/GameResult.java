@@ -0,0 +1,39 @@
+package de.sebdas;
+
+/** The outcome of a single game played by a {@link BatchRunner}. */
+final class GameResult {
+  private final long seed;
+  private final long ticks;
+  private final int length;
+  private final boolean collided;
+
+  GameResult(final long seed, final long ticks, final int length, final boolean collided) {
+    this.seed = seed;
+    this.ticks = ticks;
+    this.length = length;
+    this.collided = collided;
+  }
+
+  /** @return the seed of the world, to replay the game */
+  long getSeed() {
+    return seed;
+  }
+
+  long getTicks() {
+    return ticks;
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  /** @return false if the game was stopped at the maximum ticks */
+  boolean isCollided() {
+    return collided;
+  }
+
+  @Override
+  public String toString() {
+    return "GameResult{seed=" + seed + ", ticks=" + ticks + ", length=" + length + ", collided=" + collided + '}';
+  }
+}
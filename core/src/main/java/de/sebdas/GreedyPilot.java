@@ -0,0 +1,58 @@
+package de.sebdas;
+
+/**
+ * Heads for the nearest food, taking the wrap-around into account, but never into a cell that is
+ * occupied right ahead, unless there is no other way.
+ */
+final class GreedyPilot implements Pilot {
+  private static final Direction[] DIRECTIONS = {Directions.left(), Directions.right(), Directions.up(), Directions.down()};
+
+  @Override
+  public void steer(final World world) {
+    final Snake snake = world.getSnake();
+    final Grid grid = world.getGrid();
+    final int head = snake.getHeadCell();
+    final Direction current = snake.getDirection();
+
+    final int target = nearestFood(world, head);
+    Direction best = current;
+    long bestScore = Long.MIN_VALUE;
+    for (final Direction direction : DIRECTIONS) {
+      if (direction.getX() == -current.getX() && direction.getY() == -current.getY()) continue;
+      final int next = grid.move(head, direction);
+      long score = snake.isOccupied(next) ? -2L * grid.capacity() : 0; // beyond any distance, even on the largest boards
+      if (target != Occupancy.NO_CELL) {
+        score -= distance(grid, next, target);
+      }
+      if (score > bestScore || score == bestScore && direction == current) {
+        best = direction;
+        bestScore = score;
+      }
+    }
+    if (best != current) {
+      world.onTurn(best);
+    }
+  }
+
+  private static int nearestFood(final World world, final int head) {
+    final Grid grid = world.getGrid();
+    int nearest = Occupancy.NO_CELL;
+    int nearestDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < world.getFoodCount(); i++) {
+      final int bite = world.getFoodCell(i);
+      final int distance = distance(grid, head, bite);
+      if (distance < nearestDistance) {
+        nearest = bite;
+        nearestDistance = distance;
+      }
+    }
+    return nearest;
+  }
+
+  /* the Manhattan distance on the torus */
+  private static int distance(final Grid grid, final int from, final int to) {
+    final int dx = Math.abs(grid.x(from) - grid.x(to));
+    final int dy = Math.abs(grid.y(from) - grid.y(to));
+    return Math.min(dx, grid.getWidth() - dx) + Math.min(dy, grid.getHeight() - dy);
+  }
+}
@@ -0,0 +1,77 @@
+package de.sebdas;
+
+/**
+ * Packs board positions into single {@code int} cells ({@code y * width + x}), so that the
+ * simulation can move around the torus without allocating {@link Coordinate} objects.
+ */
+final class Grid {
+  private final int width;
+  private final int height;
+
+  Grid(final int width, final int height) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("Grid must be at least 1 x 1 cells, but was " + width + " x " + height);
+    }
+    if ((long) width * height >= Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Grid of " + width + " x " + height + " cells exceeds the int range of packed cells");
+    }
+    this.width = width;
+    this.height = height;
+  }
+
+  int getWidth() {
+    return width;
+  }
+
+  int getHeight() {
+    return height;
+  }
+
+  int capacity() {
+    return width * height;
+  }
+
+  int cell(final int x, final int y) {
+    return y * width + x;
+  }
+
+  int cell(final Coordinate coordinate) {
+    return cell(coordinate.getX(), coordinate.getY());
+  }
+
+  int x(final int cell) {
+    return cell % width;
+  }
+
+  int y(final int cell) {
+    return cell / width;
+  }
+
+  Coordinate coordinate(final int cell) {
+    return new Coordinate(x(cell), y(cell));
+  }
+
+  int move(final int cell, final Direction direction) {
+    return cell(flip(x(cell) + direction.getX(), width),
+                flip(y(cell) + direction.getY(), height));
+  }
+
+  /**
+   * Stores the four cells next to the given one in {@code neighbours}, indexed by the code of the
+   * direction towards them, see {@link Directions#codeOf(Direction)}. Unlike {@link #move(int, Direction)},
+   * this compares the coordinates with the edges rather than taking them modulo the size, which saves all
+   * divisions but the two that find the coordinates, as searches over the board need.
+   */
+  void neighbours(final int cell, final int[] neighbours) {
+    final int x = cell % width;
+    final int rowStart = cell - x;
+    neighbours[0] = x == 0 ? cell + width - 1 : cell - 1;
+    neighbours[1] = x == width - 1 ? rowStart : cell + 1;
+    neighbours[2] = rowStart == 0 ? cell + (height - 1) * width : cell - width;
+    neighbours[3] = rowStart == (height - 1) * width ? x : cell + width;
+  }
+
+  private static int flip(final int position, final int size) {
+    return (size + position) % size;
+  }
+}
@@ -0,0 +1,72 @@
+package de.sebdas;
+
+/**
+ * A closed path through every cell of a board, stored as a table of the next cell and of the position
+ * along the cycle for every cell.
+ * <p>
+ * The cycle is built by {@link #directionAt(Grid, int, int)} in a frame whose origin can be placed on
+ * any cell, since the board wraps around: row 0 of the frame is crossed to the right, the remaining
+ * rows are crossed in a serpentine over the columns 1 and above, and column 0 leads back up. It thus
+ * exists for every board at least 2 cells wide, and for one row it simply runs along the row.
+ */
+final class HamiltonianCycle {
+  private final Grid grid;
+  private final int origin;
+  private final int[] next;
+  private final int[] positions;
+
+  /** @param origin the cell where the frame of the cycle starts, also its position 0 */
+  HamiltonianCycle(final Grid grid, final int origin) {
+    this.grid = grid;
+    this.origin = origin;
+    this.next = new int[grid.capacity()];
+    this.positions = new int[grid.capacity()];
+
+    final int originX = grid.x(origin);
+    final int originY = grid.y(origin);
+    int cell = origin;
+    for (int position = 0; position < grid.capacity(); position++) {
+      positions[cell] = position;
+      final int x = Math.floorMod(grid.x(cell) - originX, grid.getWidth());
+      final int y = Math.floorMod(grid.y(cell) - originY, grid.getHeight());
+      next[cell] = grid.move(cell, directionAt(grid, x, y));
+      cell = next[cell];
+    }
+  }
+
+  /** @return the direction of the cycle at the given coordinates of its frame */
+  static Direction directionAt(final Grid grid, final int x, final int y) {
+    final int width = grid.getWidth();
+    final boolean lastRow = y == grid.getHeight() - 1;
+    if (y == 0) return x < width - 1 || lastRow ? Directions.right() : Directions.down();
+    if (x == 0) return Directions.up();
+    if (y % 2 == 1) {
+      if (x > 1) return Directions.left();
+      return lastRow ? Directions.left() : Directions.down();
+    }
+    if (x < width - 1) return Directions.right();
+    return lastRow ? Directions.right() : Directions.down();
+  }
+
+  Grid getGrid() {
+    return grid;
+  }
+
+  int getOrigin() {
+    return origin;
+  }
+
+  int next(final int cell) {
+    return next[cell];
+  }
+
+  int position(final int cell) {
+    return positions[cell];
+  }
+
+  /** @return the number of steps along the cycle from one cell to another */
+  int distance(final int from, final int to) {
+    final int distance = positions[to] - positions[from];
+    return distance < 0 ? distance + grid.capacity() : distance;
+  }
+}
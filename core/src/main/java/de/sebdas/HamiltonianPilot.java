@@ -0,0 +1,63 @@
+package de.sebdas;
+
+/**
+ * Follows a {@link HamiltonianCycle}, which lets the snake fill the whole board without ever colliding.
+ * While the snake is short, it takes shortcuts towards the food, but only forward along the cycle and
+ * never closer to the tail than a safety margin. The body thus always stays ordered along the cycle from
+ * the tail to the head, so that following the cycle remains safe.
+ * <p>
+ * The cycle is laid out on the first steering of a game, with its origin at the tail, so that the initial
+ * snake lies on it, heading along it. The pilot must therefore take over a game before its first pulse.
+ */
+final class HamiltonianPilot implements Pilot {
+  private static final int SAFETY_MARGIN = 4;
+
+  private HamiltonianCycle cycle;
+
+  @Override
+  public void steer(final World world) {
+    final Snake snake = world.getSnake();
+    final Grid grid = world.getGrid();
+    final int tail = snake.getSegment(snake.getLength() - 1);
+    if (cycle == null || cycle.getGrid() != grid || world.getTick() == 0 && cycle.getOrigin() != tail) {
+      cycle = new HamiltonianCycle(grid, tail);
+    }
+
+    final int head = snake.getHeadCell();
+    int target = cycle.next(head);
+    if (snake.getLength() < grid.capacity() / 2 && world.getFoodCount() > 0) {
+      target = shortcut(world, snake, head, tail, target);
+    }
+    for (int code = 0; code < 4; code++) {
+      final Direction direction = Directions.ofCode(code);
+      if (grid.move(head, direction) == target) {
+        if (direction != snake.getDirection()) {
+          world.onTurn(direction);
+        }
+        return;
+      }
+    }
+  }
+
+  /* the free neighbour farthest along the cycle, but neither beyond the nearest food nor too close to the tail */
+  private int shortcut(final World world, final Snake snake, final int head, final int tail, final int next) {
+    int foodDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < world.getFoodCount(); i++) {
+      foodDistance = Math.min(foodDistance, cycle.distance(head, world.getFoodCell(i)));
+    }
+    final int maxDistance = Math.min(foodDistance, cycle.distance(head, tail) - SAFETY_MARGIN);
+
+    int best = next;
+    int bestDistance = 1;
+    for (int code = 0; code < 4; code++) {
+      final int neighbour = world.getGrid().move(head, Directions.ofCode(code));
+      if (snake.isOccupied(neighbour)) continue;
+      final int distance = cycle.distance(head, neighbour);
+      if (bestDistance < distance && distance <= maxDistance) {
+        best = neighbour;
+        bestDistance = distance;
+      }
+    }
+    return best;
+  }
+}
@@ -0,0 +1,9 @@
+package de.sebdas;
+
+/** Is told about every input that changes the course of a {@link World}, e.g. to record it. */
+interface InputListener {
+  void turned(World world, Direction direction);
+
+  /** called right before the world resets, so that its tick still tells how long the game lasted */
+  void beforeReset(World world);
+}
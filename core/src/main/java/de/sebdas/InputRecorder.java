@@ -0,0 +1,75 @@
+package de.sebdas;
+
+import java.io.*;
+
+/**
+ * Records the inputs of a {@link World} into a compact binary stream, from which {@link Replay} can
+ * re-execute the game. Since the world places its food from a seeded random generator, the seed and
+ * the tick of every input suffice to reproduce a game exactly.
+ * <p>
+ * The stream starts with the magic number {@code "SNKR"}, a version byte, the width and height as
+ * varints and the seed as 8 bytes. Each input follows as a single {@link Varint} of the ticks since
+ * the previous input shifted left by {@value #CODE_BITS} bits, or-ed with the input's code: the
+ * {@link Directions#codeOf(Direction) direction code} of a turn, {@link #RESET} or {@link #END}.
+ * Most inputs thus take a single byte or two.
+ */
+final class InputRecorder implements InputListener, Closeable {
+  static final int MAGIC = 0x534E4B52;
+  static final int VERSION = 1;
+  static final int CODE_BITS = 3;
+  static final int CODE_MASK = (1 << CODE_BITS) - 1;
+  static final int RESET = 4;
+  static final int END = 5;
+
+  private final World world;
+  private final DataOutputStream out;
+  private long lastTick;
+
+  /** starts recording a freshly created world, that must not have been pulsed yet */
+  InputRecorder(final World world, final OutputStream out) throws IOException {
+    if (world.getTick() != 0) {
+      throw new IllegalStateException("Recording must start with a fresh world, but it is at tick " + world.getTick());
+    }
+    this.world = world;
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+
+    this.out.writeInt(MAGIC);
+    this.out.writeByte(VERSION);
+    Varint.write(this.out, world.getWidth());
+    Varint.write(this.out, world.getHeight());
+    this.out.writeLong(world.getSeed());
+
+    world.addInputListener(this);
+  }
+
+  @Override
+  public void turned(final World world, final Direction direction) {
+    write(world.getTick(), Directions.codeOf(direction));
+  }
+
+  @Override
+  public void beforeReset(final World world) {
+    write(world.getTick(), RESET);
+    lastTick = 0;
+  }
+
+  private void write(final long tick, final int code) {
+    try {
+      Varint.write(out, (tick - lastTick) << CODE_BITS | code);
+      lastTick = tick;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** ends the recording at the current tick of the world */
+  @Override
+  public void close() throws IOException {
+    world.removeInputListener(this);
+    try {
+      write(world.getTick(), END);
+    } finally {
+      out.close();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package de.sebdas;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the complete state of a {@link World}: its tick, the state of its random generator, the snake and the
+ * food. The snake's body is contiguous, so after the head each segment takes just the 2-bit code of the direction
+ * that leads to it from its predecessor.
+ */
+final class Keyframe {
+  private static final int COLLISION = 1 << 2;
+
+  private Keyframe() {}
+
+  static void write(final World world, final DataOutputStream out) throws IOException {
+    if (world.getSnakes().size() > 1) {
+      throw new IllegalStateException("Cannot write a keyframe of a world with " + world.getSnakes().size() + " snakes");
+    }
+    final Grid grid = world.getGrid();
+    final Snake snake = world.getSnake();
+
+    Varint.write(out, world.getTick());
+    out.writeLong(world.getRandomState());
+    out.writeByte(Directions.codeOf(snake.getDirection()) | (snake.noCollisionDetected() ? 0 : COLLISION));
+
+    final int length = snake.getLength();
+    Varint.write(out, length);
+    int previous = snake.getSegment(0);
+    Varint.write(out, previous);
+    int packed = 0;
+    for (int i = 1; i < length; i++) {
+      final int segment = snake.getSegment(i);
+      final int step = i - 1;
+      packed |= stepCode(grid, previous, segment) << 2 * (step & 3);
+      if ((step & 3) == 3) {
+        out.writeByte(packed);
+        packed = 0;
+      }
+      previous = segment;
+    }
+    if (((length - 1) & 3) != 0) {
+      out.writeByte(packed);
+    }
+
+    Varint.write(out, world.getFoodCount());
+    for (int i = 0; i < world.getFoodCount(); i++) {
+      Varint.write(out, world.getFoodCell(i));
+    }
+  }
+
+  private static int stepCode(final Grid grid, final int from, final int to) {
+    for (int code = 0; code < 4; code++) {
+      if (grid.move(from, Directions.ofCode(code)) == to) return code;
+    }
+    throw new IllegalStateException("Snake is not contiguous between cells " + from + " and " + to);
+  }
+
+  /** restores the world to the state of the keyframe at the position of the buffer */
+  static void read(final ByteBuffer in, final World world) throws IOException {
+    final Grid grid = world.getGrid();
+
+    final long tick = Varint.read(in);
+    final long randomState = in.getLong();
+    final int flags = in.get();
+
+    final long length = Varint.read(in);
+    if (length < 1 || grid.capacity() + 1 < length) {
+      throw new IOException("Corrupt keyframe, snake of length " + length);
+    }
+    final int[] cells = new int[(int) length];
+    cells[0] = cell(grid, Varint.read(in));
+    int packed = 0;
+    for (int i = 1; i < cells.length; i++) {
+      final int step = i - 1;
+      if ((step & 3) == 0) {
+        packed = in.get();
+      }
+      cells[i] = grid.move(cells[i - 1], Directions.ofCode(packed >>> 2 * (step & 3) & 3));
+    }
+
+    final int[] food = new int[(int) Varint.read(in)];
+    for (int i = 0; i < food.length; i++) {
+      food[i] = cell(grid, Varint.read(in));
+    }
+
+    final Snake snake = new Snake(cells, Directions.ofCode(flags & 3), (flags & COLLISION) != 0, new Occupancy(grid));
+    world.restore(tick, randomState, snake, food);
+  }
+
+  private static int cell(final Grid grid, final long cell) throws IOException {
+    if (cell < 0 || grid.capacity() <= cell) {
+      throw new IOException("Corrupt keyframe, cell " + cell + " is off the board");
+    }
+    return (int) cell;
+  }
+}
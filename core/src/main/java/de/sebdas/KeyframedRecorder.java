@@ -0,0 +1,145 @@
+package de.sebdas;
+
+import java.io.*;
+import java.util.Arrays;
+
+import static de.sebdas.InputRecorder.*;
+
+/**
+ * Records a game like {@link InputRecorder}, but also stores a {@link Keyframe} every {@code keyframeInterval}
+ * ticks and finally an index of all keyframes. {@link KeyframedReplay} can thus seek to any tick by decoding a
+ * single keyframe and pulsing at most {@code keyframeInterval} times.
+ * <p>
+ * Ticks count from the start of the recording, across resets. The file starts with the magic number
+ * {@code "SNKX"}, a version byte, the width, height and keyframe interval as varints and the seed as 8 bytes.
+ * The inputs follow as with {@link InputRecorder}, with the additional code {@link #KEYFRAME}, that is followed by
+ * the size of the keyframe as a varint and the keyframe itself. The first keyframe is taken when the recording
+ * starts, so the world need not be fresh. After the end come the index, i.e. the number of keyframes as an int
+ * and the tick and file offset of each as two longs, and finally the total ticks and the offset of the index as
+ * two longs.
+ */
+final class KeyframedRecorder implements InputListener, WorldListener, Closeable {
+  static final int MAGIC = 0x534E4B58;
+  static final int VERSION = 1;
+  static final int KEYFRAME = 6;
+  static final int DEFAULT_KEYFRAME_INTERVAL = 4096;
+
+  private final World world;
+  private final int keyframeInterval;
+  private final DataOutputStream out;
+  private final ByteArrayOutputStream keyframe; // buffered, since its size precedes it
+  private final DataOutputStream keyframeOut;
+  private long[] keyframeTicks;
+  private long[] keyframeOffsets;
+  private int keyframeCount;
+  private long tick;
+  private long lastTick;
+
+  KeyframedRecorder(final World world, final OutputStream out) throws IOException {
+    this(world, out, DEFAULT_KEYFRAME_INTERVAL);
+  }
+
+  KeyframedRecorder(final World world, final OutputStream out, final int keyframeInterval) throws IOException {
+    if (keyframeInterval < 1) {
+      throw new IllegalArgumentException("Keyframe interval must be positive, but is " + keyframeInterval);
+    }
+    this.world = world;
+    this.keyframeInterval = keyframeInterval;
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+    this.keyframe = new ByteArrayOutputStream();
+    this.keyframeOut = new DataOutputStream(keyframe);
+    this.keyframeTicks = new long[16];
+    this.keyframeOffsets = new long[16];
+
+    this.out.writeInt(MAGIC);
+    this.out.writeByte(VERSION);
+    Varint.write(this.out, world.getWidth());
+    Varint.write(this.out, world.getHeight());
+    Varint.write(this.out, keyframeInterval);
+    this.out.writeLong(world.getSeed());
+    writeKeyframe();
+
+    world.addInputListener(this);
+    world.addListener(this);
+  }
+
+  @Override
+  public void turned(final World world, final Direction direction) {
+    write(Directions.codeOf(direction));
+  }
+
+  @Override
+  public void beforeReset(final World world) {
+    write(RESET);
+  }
+
+  @Override
+  public void worldChanged(final World world) {
+    tick++;
+    if (tick % keyframeInterval == 0) {
+      try {
+        writeKeyframe();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private void write(final int code) {
+    try {
+      writeInput(code);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeInput(final int code) throws IOException {
+    Varint.write(out, (tick - lastTick) << CODE_BITS | code);
+    lastTick = tick;
+  }
+
+  private void writeKeyframe() throws IOException {
+    keyframe.reset();
+    Keyframe.write(world, keyframeOut);
+
+    writeInput(KEYFRAME);
+    if (keyframeCount == keyframeTicks.length) {
+      keyframeTicks = Arrays.copyOf(keyframeTicks, 2 * keyframeCount);
+      keyframeOffsets = Arrays.copyOf(keyframeOffsets, 2 * keyframeCount);
+    }
+    keyframeTicks[keyframeCount] = tick;
+    keyframeOffsets[keyframeCount] = offset();
+    keyframeCount++;
+
+    Varint.write(out, keyframe.size());
+    keyframe.writeTo(out);
+  }
+
+  /* the replay maps the file into a single buffer, which limits it to 2 GB, just as the counter of the stream */
+  private long offset() throws IOException {
+    if (out.size() == Integer.MAX_VALUE) {
+      throw new IOException("Recording exceeds 2 GB");
+    }
+    return out.size();
+  }
+
+  /** ends the recording at the current tick and writes the index of the keyframes */
+  @Override
+  public void close() throws IOException {
+    world.removeInputListener(this);
+    world.removeListener(this);
+    try {
+      writeInput(END);
+      final long indexOffset = offset();
+      out.writeInt(keyframeCount);
+      for (int i = 0; i < keyframeCount; i++) {
+        out.writeLong(keyframeTicks[i]);
+        out.writeLong(keyframeOffsets[i]);
+      }
+      out.writeLong(tick);
+      out.writeLong(indexOffset);
+    } finally {
+      out.close();
+    }
+  }
+}
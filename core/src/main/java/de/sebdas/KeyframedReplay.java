@@ -0,0 +1,149 @@
+package de.sebdas;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static de.sebdas.InputRecorder.*;
+import static de.sebdas.KeyframedRecorder.KEYFRAME;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Seeks within a recording of a {@link KeyframedRecorder}, which is mapped into memory, so that only the pages of
+ * the keyframe used and of the inputs following it are actually read.
+ */
+final class KeyframedReplay implements Closeable {
+  private static final int FOOTER_SIZE = 2 * Long.BYTES;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int keyframeInterval;
+  private final long[] keyframeTicks;
+  private final int[] keyframeOffsets;
+  private final long duration;
+  private final World world;
+  private long tick;
+
+  /** usage: {@code KeyframedReplay <recording> <tick>}, prints the state of the world at the tick */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("usage: KeyframedReplay <recording> <tick>");
+      System.exit(1);
+    }
+    try (final KeyframedReplay replay = new KeyframedReplay(Paths.get(args[0]))) {
+      final long start = System.nanoTime();
+      final World world = replay.seek(Long.parseLong(args[1]));
+      final long micros = (System.nanoTime() - start) / 1_000;
+      System.out.printf("Sought tick %s of %d in %d us: snake of length %d heading %s from %s, food at %s%n",
+                        args[1], replay.getDuration(), micros, world.getSnake().getLength(),
+                        world.getSnake().getDirection(), world.getSnake().getHead(), world.getFood());
+    }
+  }
+
+  KeyframedReplay(final Path recording) throws IOException {
+    this.channel = FileChannel.open(recording, READ);
+    try {
+      if (Integer.MAX_VALUE < channel.size()) {
+        throw new IOException("Recordings beyond 2 GB are not supported");
+      }
+      this.buffer = channel.map(READ_ONLY, 0, channel.size());
+
+      if (buffer.limit() < Integer.BYTES + 1 || buffer.getInt() != KeyframedRecorder.MAGIC) {
+        throw new IOException("Not a keyframed snake recording");
+      }
+      final int version = buffer.get() & 0xFF;
+      if (version != KeyframedRecorder.VERSION) {
+        throw new IOException("Unsupported recording version " + version);
+      }
+      final int width = (int) Varint.read(buffer);
+      final int height = (int) Varint.read(buffer);
+      this.keyframeInterval = (int) Varint.read(buffer);
+      this.world = new World(width, height, buffer.getLong());
+
+      final int footer = buffer.limit() - FOOTER_SIZE;
+      this.duration = buffer.getLong(footer);
+      final ByteBuffer index = buffer.duplicate().position((int) buffer.getLong(footer + Long.BYTES));
+      final int keyframeCount = index.getInt();
+      this.keyframeTicks = new long[keyframeCount];
+      this.keyframeOffsets = new int[keyframeCount];
+      for (int i = 0; i < keyframeCount; i++) {
+        keyframeTicks[i] = index.getLong();
+        keyframeOffsets[i] = (int) index.getLong();
+      }
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  int getKeyframeInterval() {
+    return keyframeInterval;
+  }
+
+  /** @return the ticks from the start to the end of the recording */
+  long getDuration() {
+    return duration;
+  }
+
+  /**
+   * @param target the tick, counted from the start of the recording across resets
+   * @return the world as it was at the tick, including the inputs given at the tick; it is the same world for each
+   * seek
+   */
+  World seek(final long target) throws IOException {
+    if (target < 0 || duration < target) {
+      throw new IllegalArgumentException("Tick " + target + " is out of the recording's range [0, " + duration + "]");
+    }
+    int keyframe = Arrays.binarySearch(keyframeTicks, target);
+    if (keyframe < 0) {
+      keyframe = -keyframe - 2; // the last keyframe before the target
+    }
+
+    final ByteBuffer in = buffer.duplicate().position(keyframeOffsets[keyframe]);
+    final int keyframeSize = (int) Varint.read(in);
+    final int inputs = in.position() + keyframeSize;
+    Keyframe.read(in, world);
+    in.position(inputs);
+    tick = keyframeTicks[keyframe];
+
+    long inputTick = tick;
+    while (true) {
+      final long input = Varint.read(in);
+      inputTick += input >>> CODE_BITS;
+      if (target < inputTick) break;
+      advanceTo(inputTick);
+
+      final int code = (int) (input & CODE_MASK);
+      if (code == END) break;
+      if (code == RESET) {
+        world.reset();
+      } else if (code == KEYFRAME) {
+        final int size = (int) Varint.read(in);
+        in.position(in.position() + size);
+      } else {
+        world.onTurn(Directions.ofCode(code));
+      }
+    }
+    advanceTo(target);
+    return world;
+  }
+
+  /* like the game loop, the world stops moving at the first collision, and so does the recording */
+  private void advanceTo(final long target) {
+    while (tick < target && world.noCollisionDetected()) {
+      world.pulse();
+      tick++;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
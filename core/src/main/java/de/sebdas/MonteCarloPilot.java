@@ -0,0 +1,214 @@
+package de.sebdas;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Evaluates the turns open to the snake by random rollouts on copies of the world, which several threads
+ * run until the time budget of the tick is spent.
+ * <p>
+ * The turns form the root of the search tree, which is only that one level deep: each thread picks the
+ * turn with the highest upper confidence bound (UCB1) from counters that all threads share without locks,
+ * plays a random game ahead from it and adds the outcome. A rollout in progress already counts as a visit
+ * without reward (a virtual loss), so that the threads spread over the turns. Finally the snake takes the
+ * most visited turn. Every thread plays on its own copy of the world, which is overwritten for each rollout
+ * instead of being replayed or allocated.
+ */
+final class MonteCarloPilot implements Pilot, Closeable {
+  /** half of the game loop's update interval of 180 ms */
+  static final long DEFAULT_BUDGET_NANOS = 90_000_000;
+  static final int DEFAULT_ROLLOUT_DEPTH = 64;
+
+  private static final int CANDIDATES = 3; // straight on and the two turns to the side
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final double REWARD_SCALE = 1 << 20; // rewards are summed as fixed-point longs
+  private static final double FOOD_DISCOUNT = 0.95;
+
+  private final int threads;
+  private final long budgetNanos;
+  private final int rolloutDepth;
+  private final ExecutorService executor;
+  private final SplittableRandom[] randoms;
+  private final World[] copies;
+  private final Direction[] candidates;
+  private final AtomicLongArray visits;
+  private final AtomicLongArray rewards;
+  private long lastRollouts;
+
+  MonteCarloPilot(final int threads) {
+    this(threads, DEFAULT_BUDGET_NANOS, DEFAULT_ROLLOUT_DEPTH, System.nanoTime());
+  }
+
+  MonteCarloPilot(final int threads, final long budgetNanos, final int rolloutDepth, final long seed) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("At least one thread is needed, but got " + threads);
+    }
+    this.threads = threads;
+    this.budgetNanos = budgetNanos;
+    this.rolloutDepth = rolloutDepth;
+    this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+      final Thread thread = new Thread(runnable, "monte-carlo-pilot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.randoms = new SplittableRandom[threads];
+    final SplittableRandom random = new SplittableRandom(seed);
+    for (int i = 0; i < threads; i++) {
+      randoms[i] = random.split();
+    }
+    this.copies = new World[threads];
+    this.candidates = new Direction[CANDIDATES];
+    this.visits = new AtomicLongArray(CANDIDATES);
+    this.rewards = new AtomicLongArray(CANDIDATES);
+  }
+
+  @Override
+  public void steer(final World world) {
+    final Snake snake = world.getSnake();
+    final int straight = Directions.codeOf(snake.getDirection());
+    int open = 0;
+    for (int i = 0; i < CANDIDATES; i++) {
+      final Direction direction = Directions.ofCode(i == 0 ? straight : straight ^ (i + 1));
+      final boolean blocked = snake.isOccupied(world.getGrid().move(snake.getHeadCell(), direction));
+      candidates[i] = blocked ? null : direction;
+      visits.set(i, 0);
+      rewards.set(i, 0);
+      if (!blocked) open++;
+    }
+    if (open == 0) return;
+
+    lastRollouts = search(world);
+
+    int best = -1;
+    for (int i = 0; i < CANDIDATES; i++) {
+      if (candidates[i] != null && (best < 0 || visits.get(i) > visits.get(best))) {
+        best = i;
+      }
+    }
+    if (candidates[best] != snake.getDirection()) {
+      world.onTurn(candidates[best]);
+    }
+  }
+
+  /* the world is only read while the threads play on their copies */
+  private long search(final World world) {
+    final long deadline = System.nanoTime() + budgetNanos;
+    final List<Callable<Long>> workers = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      final int worker = i;
+      workers.add(() -> work(worker, world, deadline));
+    }
+    try {
+      long rollouts = 0;
+      for (final Future<Long> result : executor.invokeAll(workers)) {
+        rollouts += result.get();
+      }
+      return rollouts;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return 0;
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Rollout failed", e.getCause());
+    }
+  }
+
+  private long work(final int worker, final World world, final long deadline) {
+    World copy = copies[worker];
+    if (copy == null || copy.getGrid().getWidth() != world.getWidth() || copy.getGrid().getHeight() != world.getHeight()) {
+      copy = new World(world.getWidth(), world.getHeight(), 0L);
+      copies[worker] = copy;
+    }
+    final SplittableRandom random = randoms[worker];
+    long rollouts = 0;
+    do {
+      final int candidate = select();
+      visits.incrementAndGet(candidate);
+      final double reward = rollout(copy, world, candidates[candidate], random);
+      rewards.addAndGet(candidate, (long) (reward * REWARD_SCALE));
+      rollouts++;
+    } while (System.nanoTime() < deadline);
+    return rollouts;
+  }
+
+  /* UCB1 on the shared counters, which other threads may be changing meanwhile */
+  private int select() {
+    long total = 0;
+    for (int i = 0; i < CANDIDATES; i++) {
+      total += visits.get(i);
+    }
+    final double logTotal = Math.log(Math.max(total, 1));
+    int best = -1;
+    double bestBound = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < CANDIDATES; i++) {
+      if (candidates[i] == null) continue;
+      final long n = visits.get(i);
+      if (n == 0) return i;
+      final double bound = rewards.get(i) / REWARD_SCALE / n + EXPLORATION * Math.sqrt(logTotal / n);
+      if (bound > bestBound) {
+        best = i;
+        bestBound = bound;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * plays randomly, but without running into the snake where avoidable, with a new course of food
+   *
+   * @return half for surviving the rollout, in proportion to how long it survived, and half for the food
+   * eaten, the earlier the better
+   */
+  private double rollout(final World copy, final World world, final Direction first, final SplittableRandom random) {
+    copy.copyFrom(world);
+    copy.setRandomState(random.nextLong());
+    copy.onTurn(first);
+
+    double food = 0;
+    double discount = 1;
+    for (int step = 0; step < rolloutDepth; step++) {
+      if (step > 0) {
+        turnRandomly(copy, random);
+      }
+      final int length = copy.getSnake().getLength();
+      copy.pulse();
+      if (!copy.noCollisionDetected()) {
+        return 0.5 * step / rolloutDepth + 0.5 * Math.min(food, 1);
+      }
+      if (copy.getSnake().getLength() > length) {
+        food += discount;
+      }
+      discount *= FOOD_DISCOUNT;
+    }
+    return 0.5 + 0.5 * Math.min(food, 1);
+  }
+
+  private static void turnRandomly(final World world, final SplittableRandom random) {
+    final Snake snake = world.getSnake();
+    final int straight = Directions.codeOf(snake.getDirection());
+    final int offset = random.nextInt(CANDIDATES);
+    for (int i = 0; i < CANDIDATES; i++) {
+      final int candidate = (offset + i) % CANDIDATES;
+      final Direction direction = Directions.ofCode(candidate == 0 ? straight : straight ^ (candidate + 1));
+      if (!snake.isOccupied(world.getGrid().move(snake.getHeadCell(), direction))) {
+        if (direction != snake.getDirection()) {
+          world.onTurn(direction);
+        }
+        return;
+      }
+    }
+  }
+
+  /** @return the number of rollouts of the last tick */
+  long getLastRollouts() {
+    return lastRollouts;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
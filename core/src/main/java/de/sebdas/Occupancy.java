@@ -0,0 +1,111 @@
+package de.sebdas;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The cells of a {@link Grid} that are covered by snakes, able to pick a uniformly distributed free
+ * cell in (nearly) constant time however crowded the board gets.
+ * <p>
+ * While at least half of the board is free, a free cell is found by drawing random cells, which takes
+ * at most two draws on average. While more than half of the board is occupied, a single draw selects
+ * the n-th free cell from the per-chunk counts of {@link ChunkedBitSet#selectClear(int)}. These are
+ * built once the board first gets crowded, costing O(chunks), and then kept up to date in O(log chunks).
+ * <p>
+ * Either way, the cell drawn depends only on which cells are occupied and on the random generator, not
+ * on the order of earlier changes, so that a world restored from a {@link Keyframe} draws the same food.
+ */
+final class Occupancy {
+  static final int NO_CELL = -1;
+
+  private final Grid grid;
+  private final ChunkedBitSet occupied;
+  private final List<OccupancyListener> listeners;
+  private int occupiedCount;
+
+  Occupancy(final Grid grid) {
+    this.grid = grid;
+    this.occupied = new ChunkedBitSet(grid);
+    this.listeners = new ArrayList<>();
+  }
+
+  void addListener(final OccupancyListener listener) {
+    listeners.add(listener);
+  }
+
+  void removeListener(final OccupancyListener listener) {
+    listeners.remove(listener);
+  }
+
+  Grid getGrid() {
+    return grid;
+  }
+
+  boolean isOccupied(final int cell) {
+    return occupied.get(cell);
+  }
+
+  boolean isOccupied(final int x, final int y) {
+    return occupied.get(x, y);
+  }
+
+  int getOccupiedCount() {
+    return occupiedCount;
+  }
+
+  int getFreeCount() {
+    return grid.capacity() - occupiedCount;
+  }
+
+  void occupy(final int cell) {
+    if (occupied.get(cell)) return;
+    occupied.set(cell);
+    occupiedCount++;
+    if (isCrowded()) {
+      occupied.indexClearCells();
+    }
+    for (int i = 0; i < listeners.size(); i++) {
+      listeners.get(i).cellOccupied(cell);
+    }
+  }
+
+  void release(final int cell) {
+    if (!occupied.get(cell)) return;
+    occupied.clear(cell);
+    occupiedCount--;
+    for (int i = 0; i < listeners.size(); i++) {
+      listeners.get(i).cellReleased(cell);
+    }
+  }
+
+  /** makes this occupancy equal to the other one on a board of the same size, without telling the listeners */
+  void copyFrom(final Occupancy other) {
+    occupied.copyFrom(other.occupied);
+    occupiedCount = other.occupiedCount;
+    if (isCrowded()) {
+      occupied.indexClearCells();
+    }
+  }
+
+  /** @return a uniformly chosen free cell or {@link #NO_CELL} if the board is full */
+  int randomFreeCell(final Random random) {
+    final int freeCount = getFreeCount();
+    if (freeCount == 0) return NO_CELL;
+    if (isCrowded()) return occupied.selectClear(random.nextInt(freeCount));
+
+    int cell;
+    do {
+      cell = random.nextInt(grid.capacity());
+    } while (occupied.get(cell));
+    return cell;
+  }
+
+  boolean isFreeCellIndexed() {
+    return occupied.isClearCellIndexed();
+  }
+
+  private boolean isCrowded() {
+    return occupiedCount > grid.capacity() / 2;
+  }
+}
@@ -0,0 +1,7 @@
+package de.sebdas;
+
+interface OccupancyListener {
+  void cellOccupied(int cell);
+
+  void cellReleased(int cell);
+}
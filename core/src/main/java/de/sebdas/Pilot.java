@@ -0,0 +1,7 @@
+package de.sebdas;
+
+/** A strategy that plays the game instead of a player, by turning the snake before every pulse. */
+@FunctionalInterface
+interface Pilot {
+  void steer(World world);
+}
@@ -0,0 +1,221 @@
+package de.sebdas;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Moves the snakes of a {@link World} in parallel, by splitting the board into bands of rows owned by
+ * the threads of a {@link ForkJoinPool}. The bands are whole rows of the 64 x 64 chunks of the occupancy,
+ * so that the threads read and claim cells in chunks of their own.
+ * <p>
+ * A pulse takes four steps. In parallel, each band works out where the snakes with their heads in it
+ * move and claims the cells within the band, while the occupancy is only read. Sequentially, the claims
+ * of the few heads that cross into another band are made. In parallel, each band moves the segments of
+ * its snakes, which belong to one snake each. Sequentially, the occupancy and the food are updated in
+ * the order of the snakes, since their counts, chunk pool and listeners are shared.
+ * <p>
+ * Which head claims a cell first does not matter, so the outcome is the same as that of the sequential
+ * pulse of the world, down to the order in which the occupancy tells its listeners.
+ */
+final class RegionTicker {
+  private static final int CHUNK_SHIFT = 6;
+  private static final int REGIONS_PER_THREAD = 4;
+  private static final byte MOVES = 0;
+  private static final byte GROWS = 1;
+  private static final byte STAYS = 2;
+
+  private final Grid grid;
+  private final ForkJoinPool pool;
+  private final int regionCount;
+  private final int rowsPerRegion;
+  private final int[] regionStarts;
+  private final int[] regionSizes;
+  private final int[] crossingCounts;
+  private int[] order;
+  private int[] crossing;
+  private int[] nextCells;
+  private int[] tails;
+  private byte[] moves;
+  private boolean[] blocked;
+
+  private List<Snake> snakes;
+  private Occupancy occupancy;
+  private CellSet food;
+  private int[] claims;
+  private int epoch;
+
+  RegionTicker(final Grid grid, final ForkJoinPool pool) {
+    this.grid = grid;
+    this.pool = pool;
+    final int chunkRows = (grid.getHeight() + (1 << CHUNK_SHIFT) - 1) >>> CHUNK_SHIFT;
+    final int chunkRowsPerRegion = (chunkRows + REGIONS_PER_THREAD * pool.getParallelism() - 1)
+                                   / (REGIONS_PER_THREAD * pool.getParallelism());
+    this.rowsPerRegion = chunkRowsPerRegion << CHUNK_SHIFT;
+    this.regionCount = (grid.getHeight() + rowsPerRegion - 1) / rowsPerRegion;
+    this.regionStarts = new int[regionCount + 1];
+    this.regionSizes = new int[regionCount];
+    this.crossingCounts = new int[regionCount];
+    ensureCapacity(64);
+  }
+
+  int getRegionCount() {
+    return regionCount;
+  }
+
+  /**
+   * Moves the snakes that have not collided yet, as the sequential pulse of the world does, leaving
+   * collided snakes to be removed by the world.
+   *
+   * @param claims the cells claimed by heads, see {@link World#pulse()}, holding no stamps of this epoch yet
+   * @return whether a snake has eaten
+   */
+  boolean advance(final List<Snake> snakes, final Occupancy occupancy, final CellSet food,
+                  final int[] claims, final int epoch) {
+    this.snakes = snakes;
+    this.occupancy = occupancy;
+    this.food = food;
+    this.claims = claims;
+    this.epoch = epoch;
+    ensureCapacity(snakes.size());
+    sortByRegion();
+
+    pool.invoke(new Step(0, regionCount, true));
+    for (int region = 0; region < regionCount; region++) {
+      for (int k = regionStarts[region]; k < regionStarts[region] + crossingCounts[region]; k++) {
+        claim(crossing[k]);
+      }
+    }
+    pool.invoke(new Step(0, regionCount, false));
+    final boolean eaten = commit();
+
+    this.snakes = null;
+    this.occupancy = null;
+    this.food = null;
+    this.claims = null;
+    return eaten;
+  }
+
+  private void ensureCapacity(final int snakeCount) {
+    if (order != null && order.length >= snakeCount) return;
+    final int capacity = Math.max(snakeCount, order == null ? 0 : 2 * order.length);
+    order = new int[capacity];
+    crossing = new int[capacity];
+    nextCells = new int[capacity];
+    tails = new int[capacity];
+    moves = new byte[capacity];
+    blocked = new boolean[capacity];
+  }
+
+  /* a counting sort by the region of the head, which keeps the order of the snakes within a region */
+  private void sortByRegion() {
+    Arrays.fill(regionSizes, 0);
+    for (int i = 0; i < snakes.size(); i++) {
+      regionSizes[regionOf(snakes.get(i).getHeadCell())]++;
+    }
+    for (int region = 0; region < regionCount; region++) {
+      regionStarts[region + 1] = regionStarts[region] + regionSizes[region];
+      regionSizes[region] = 0;
+    }
+    for (int i = 0; i < snakes.size(); i++) {
+      final int region = regionOf(snakes.get(i).getHeadCell());
+      order[regionStarts[region] + regionSizes[region]++] = i;
+    }
+  }
+
+  private int regionOf(final int cell) {
+    return cell / grid.getWidth() / rowsPerRegion;
+  }
+
+  /* reads the occupancy and the food, and claims the cells within the region */
+  private void plan(final int region) {
+    for (int k = regionStarts[region]; k < regionStarts[region + 1]; k++) {
+      final int i = order[k];
+      final Snake snake = snakes.get(i);
+      if (!snake.noCollisionDetected()) {
+        moves[i] = STAYS;
+        continue;
+      }
+      final int head = snake.getHeadCell();
+      moves[i] = food.contains(head) ? GROWS : MOVES;
+      final int next = grid.move(head, snake.getDirection());
+      nextCells[i] = next;
+      blocked[i] = occupancy.isOccupied(next);
+      if (regionOf(next) == region) {
+        claim(i);
+      } else {
+        crossing[regionStarts[region] + crossingCounts[region]++] = i;
+      }
+    }
+  }
+
+  private void claim(final int i) {
+    final int next = nextCells[i];
+    if (claims[next] == epoch || claims[next] == -epoch) {
+      claims[next] = -epoch;
+    } else if (!blocked[i]) {
+      claims[next] = epoch;
+    }
+  }
+
+  /* moves the segments, which belong to the snakes of the region alone */
+  private void move(final int region) {
+    for (int k = regionStarts[region]; k < regionStarts[region + 1]; k++) {
+      final int i = order[k];
+      if (moves[i] == STAYS) continue;
+      final Snake snake = snakes.get(i);
+      final int next = nextCells[i];
+      snake.addHead(next, blocked[i] || claims[next] == -epoch);
+      if (moves[i] == MOVES) {
+        tails[i] = snake.removeTail();
+      }
+    }
+    crossingCounts[region] = 0;
+  }
+
+  /* in the order of the sequential pulse: all heads first, then all tails */
+  private boolean commit() {
+    boolean eaten = false;
+    for (int i = 0; i < snakes.size(); i++) {
+      if (moves[i] == STAYS) continue;
+      if (moves[i] == GROWS) {
+        food.remove(snakes.get(i).getSegment(1));
+        eaten = true;
+      }
+      occupancy.occupy(nextCells[i]);
+    }
+    final int playerHead = snakes.get(0).getHeadCell();
+    for (int i = 0; i < snakes.size(); i++) {
+      if (moves[i] == MOVES && tails[i] != playerHead) {
+        occupancy.release(tails[i]);
+      }
+    }
+    return eaten;
+  }
+
+  private final class Step extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final int from;
+    private final int to;
+    private final boolean planning;
+
+    Step(final int from, final int to, final boolean planning) {
+      this.from = from;
+      this.to = to;
+      this.planning = planning;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        final int middle = (from + to) >>> 1;
+        invokeAll(new Step(from, middle, planning), new Step(middle, to, planning));
+      } else if (planning) {
+        plan(from);
+      } else {
+        move(from);
+      }
+    }
+  }
+}
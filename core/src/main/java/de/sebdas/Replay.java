@@ -0,0 +1,75 @@
+package de.sebdas;
+
+import java.io.*;
+
+import static de.sebdas.InputRecorder.*;
+
+/** Re-executes a recording of an {@link InputRecorder} headlessly and as fast as possible. */
+final class Replay {
+  private Replay() {}
+
+  /** usage: {@code Replay <recording> [repetitions]}, prints how fast the recording was replayed */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("usage: Replay <recording> [repetitions]");
+      System.exit(1);
+    }
+    final File recording = new File(args[0]);
+    final int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+    final long[] pulses = {0};
+    final long start = System.nanoTime();
+    for (int i = 0; i < repetitions; i++) {
+      try (final InputStream in = new BufferedInputStream(new FileInputStream(recording))) {
+        replay(in, world -> pulses[0]++);
+      }
+    }
+    final long millis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+    System.out.printf("Replayed %d ticks in %d ms (%d ticks/s)%n", pulses[0], millis, pulses[0] * 1000 / millis);
+  }
+
+  static World replay(final InputStream in) throws IOException {
+    return replay(in, null);
+  }
+
+  /** @return the world in the state it was in when the recording ended */
+  static World replay(final InputStream in, final WorldListener listener) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC) {
+      throw new IOException("Not a snake recording");
+    }
+    final int version = data.readUnsignedByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported recording version " + version);
+    }
+    final int width = (int) Varint.read(data);
+    final int height = (int) Varint.read(data);
+    final World world = new World(width, height, data.readLong());
+    if (listener != null) {
+      world.addListener(listener);
+    }
+
+    long tick = 0;
+    while (true) {
+      final long input = Varint.read(data);
+      tick += input >>> CODE_BITS;
+      advanceTo(world, tick);
+
+      final int code = (int) (input & CODE_MASK);
+      if (code == END) return world;
+      if (code == RESET) {
+        world.reset();
+        tick = 0;
+      } else {
+        world.onTurn(Directions.ofCode(code));
+      }
+    }
+  }
+
+  /* like the game loop, the world stops moving at the first collision */
+  private static void advanceTo(final World world, final long tick) {
+    while (world.getTick() < tick && world.noCollisionDetected()) {
+      world.pulse();
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package de.sebdas;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+class Snake {
+  static final int INITIAL_LENGTH = 3;
+
+  private final Grid grid;
+  private final Occupancy occupancy;
+  private final CellDeque segments;
+  private Direction direction;
+  private boolean collision;
+  private long moves;
+
+  Snake(final Coordinate initialHead, final Occupancy occupancy) {
+    this.grid = occupancy.getGrid();
+    this.occupancy = occupancy;
+    this.segments = createInitialSegments(grid.cell(initialHead));
+    this.direction = Directions.right();
+    this.collision = false;
+  }
+
+  /** restores a snake from the cells of its segments, counted from the head */
+  Snake(final int[] cells, final Direction direction, final boolean collision, final Occupancy occupancy) {
+    this.grid = occupancy.getGrid();
+    this.occupancy = occupancy;
+    this.segments = new CellDeque(grid.capacity() + 1);
+    for (final int cell : cells) {
+      segments.addLast(cell);
+      occupancy.occupy(cell);
+    }
+    this.direction = direction;
+    this.collision = collision;
+  }
+
+  private CellDeque createInitialSegments(final int initialHead) {
+    final CellDeque initialSegments = new CellDeque(grid.capacity() + 1); // room for a head that bites into a full board
+    int segment = initialHead;
+    for (int i = 0; i < INITIAL_LENGTH; i++) {
+      initialSegments.addLast(segment);
+      occupancy.occupy(segment);
+      segment = grid.move(segment, Directions.left());
+    }
+    return initialSegments;
+  }
+
+  Coordinate getHead() {
+    return grid.coordinate(getHeadCell());
+  }
+
+  int getHeadCell() {
+    return segments.getFirst();
+  }
+
+  int getLength() {
+    return segments.size();
+  }
+
+  /** @return the cell of the segment at the given index, counted from the head */
+  int getSegment(final int index) {
+    return segments.get(index);
+  }
+
+  Collection<Coordinate> getSegments() {
+    final List<Coordinate> coordinates = new ArrayList<>(segments.size());
+    for (int i = 0; i < segments.size(); i++) {
+      coordinates.add(grid.coordinate(segments.get(i)));
+    }
+    return Collections.unmodifiableList(coordinates);
+  }
+
+  /** @return the number of times the head moved on, e.g. to tell how many segments are new since then */
+  long getMoves() {
+    return moves;
+  }
+
+  Direction getDirection() {
+    return direction;
+  }
+
+  boolean noCollisionDetected() {
+    return !collision;
+  }
+
+  boolean isOccupied(final int x, final int y) {
+    return occupancy.isOccupied(x, y);
+  }
+
+  boolean isOccupied(final int cell) {
+    return occupancy.isOccupied(cell);
+  }
+
+  Occupancy getOccupancy() {
+    return occupancy;
+  }
+
+  /** makes this snake equal to the other one on a board of the same size, including the occupancy */
+  void copyFrom(final Snake other) {
+    copySegmentsFrom(other);
+    occupancy.copyFrom(other.occupancy);
+  }
+
+  /** makes this snake equal to the other one, leaving the occupancy to be copied along with a shared one */
+  void copySegmentsFrom(final Snake other) {
+    segments.copyFrom(other.segments);
+    direction = other.direction;
+    collision = other.collision;
+    moves = other.moves;
+  }
+
+  void move() {
+    final int head = addHead();
+    final int tail = segments.removeLast();
+    if (tail != head) { // biting the own tail keeps that cell occupied
+      occupancy.release(tail);
+    }
+  }
+
+  void grow() {
+    addHead();
+  }
+
+  /** moves the head on, detecting a collision with any occupied cell, see {@link World#pulse()} */
+  int addHead() {
+    final int nextHeadPosition = grid.move(segments.getFirst(), direction);
+    collision = occupancy.isOccupied(nextHeadPosition);
+    segments.addFirst(nextHeadPosition);
+    occupancy.occupy(nextHeadPosition);
+    moves++;
+    return nextHeadPosition;
+  }
+
+  /** moves the head onto the cell without occupying it, which is left to the caller, see {@link RegionTicker} */
+  void addHead(final int cell, final boolean collision) {
+    this.collision = collision;
+    segments.addFirst(cell);
+    moves++;
+  }
+
+  /** @return the cell the tail left, which remains occupied, as other snakes may have moved onto it */
+  int removeTail() {
+    return segments.removeLast();
+  }
+
+  /** marks a collision that is not caused by an occupied cell, such as a head-on collision of two snakes */
+  void collide() {
+    collision = true;
+  }
+
+  void turnLeft() {
+    direction = direction.turnLeft();
+  }
+
+  void turnRight() {
+    direction = direction.turnRight();
+  }
+
+  void turnUp() {
+    direction = direction.turnUp();
+  }
+
+  void turnDown() {
+    direction = direction.turnDown();
+  }
+}
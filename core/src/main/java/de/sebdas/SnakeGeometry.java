@@ -0,0 +1,203 @@
+package de.sebdas;
+
+import java.util.Arrays;
+
+/**
+ * The body of a {@link Snake} as spans of straight runs of segments, each of which can be drawn as a
+ * single rectangle, so that drawing costs in proportion to the turns of the snake rather than to its
+ * length. A run is also split where it wraps around the edge of the board, as its two parts are apart on
+ * the screen.
+ * <p>
+ * The spans are kept up to date incrementally: on each {@link #update(Snake)} the segments that the
+ * head entered since, as told by {@link Snake#getMoves()}, extend the spans at the head, and the tail
+ * span is shortened by the segments the tail left. The spans are rebuilt from all segments for another
+ * snake, or if the snake was changed as a whole, e.g. by {@link Snake#copyFrom(Snake)}.
+ */
+final class SnakeGeometry {
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int NO_DIRECTION = -1;
+
+  private final Grid grid;
+  private Snake snake;
+  private long moves;
+  private int cellCount;
+
+  /* a ring buffer of spans from the head to the tail, each given by the cell at its head end */
+  private int[] heads;
+  private int[] directions;
+  private int[] lengths;
+  private int first;
+  private int size;
+
+  SnakeGeometry(final Grid grid) {
+    this.grid = grid;
+    this.heads = new int[INITIAL_CAPACITY];
+    this.directions = new int[INITIAL_CAPACITY];
+    this.lengths = new int[INITIAL_CAPACITY];
+  }
+
+  void update(final Snake snake) {
+    final long entered = snake.getMoves() - moves;
+    if (snake != this.snake || entered < 0 || entered >= snake.getLength() || !extend(snake, (int) entered)) {
+      rebuild(snake);
+    }
+  }
+
+  /** @return the number of spans */
+  int size() {
+    return size;
+  }
+
+  /** @return the column of the left end of the span at the given index, counted from the head */
+  int getX(final int index) {
+    final int span = slot(index);
+    final int x = grid.x(heads[span]);
+    return directions[span] == Directions.codeOf(Directions.right()) ? x - lengths[span] + 1 : x;
+  }
+
+  /** @return the row of the upper end of the span at the given index, counted from the head */
+  int getY(final int index) {
+    final int span = slot(index);
+    final int y = grid.y(heads[span]);
+    return directions[span] == Directions.codeOf(Directions.down()) ? y - lengths[span] + 1 : y;
+  }
+
+  /** @return the width of the span at the given index in cells */
+  int getWidth(final int index) {
+    final int span = slot(index);
+    return isHorizontal(directions[span]) ? lengths[span] : 1;
+  }
+
+  /** @return the height of the span at the given index in cells */
+  int getHeight(final int index) {
+    final int span = slot(index);
+    return isHorizontal(directions[span]) ? 1 : lengths[span];
+  }
+
+  private static boolean isHorizontal(final int direction) {
+    return direction == Directions.codeOf(Directions.left()) || direction == Directions.codeOf(Directions.right());
+  }
+
+  private boolean extend(final Snake snake, final int entered) {
+    for (int i = entered - 1; i >= 0; i--) {
+      addHead(snake.getSegment(i));
+    }
+    cellCount += entered;
+    final int left = cellCount - snake.getLength();
+    if (left < 0 || !removeTail(left)) return false;
+    moves = snake.getMoves();
+    return size > 0
+           && heads[first] == snake.getHeadCell()
+           && tailCell() == snake.getSegment(snake.getLength() - 1);
+  }
+
+  private void rebuild(final Snake snake) {
+    this.snake = snake;
+    this.moves = snake.getMoves();
+    this.cellCount = snake.getLength();
+    this.size = 0;
+    for (int i = snake.getLength() - 1; i >= 0; i--) {
+      addHead(snake.getSegment(i));
+    }
+  }
+
+  /* a cell next to the head end of the first span extends it if it continues its direction without wrapping */
+  private void addHead(final int cell) {
+    if (size > 0) {
+      final int span = first;
+      final int direction = directionBetween(heads[span], cell);
+      if (direction != NO_DIRECTION && (lengths[span] == 1 || directions[span] == direction)) {
+        heads[span] = cell;
+        directions[span] = direction;
+        lengths[span]++;
+        return;
+      }
+    }
+    ensureCapacity();
+    first = first == 0 ? heads.length - 1 : first - 1;
+    heads[first] = cell;
+    directions[first] = NO_DIRECTION;
+    lengths[first] = 1;
+    size++;
+  }
+
+  /* only steps within the board count, a step across its edge starts a new span */
+  private int directionBetween(final int from, final int to) {
+    final int dx = grid.x(to) - grid.x(from);
+    final int dy = grid.y(to) - grid.y(from);
+    if (dy == 0 && dx == 1)  return Directions.codeOf(Directions.right());
+    if (dy == 0 && dx == -1) return Directions.codeOf(Directions.left());
+    if (dx == 0 && dy == 1)  return Directions.codeOf(Directions.down());
+    if (dx == 0 && dy == -1) return Directions.codeOf(Directions.up());
+    return NO_DIRECTION;
+  }
+
+  private boolean removeTail(int cells) {
+    while (cells > 0) {
+      if (size == 0) return false;
+      final int last = slot(size - 1);
+      if (lengths[last] > cells) {
+        lengths[last] -= cells;
+        if (lengths[last] == 1) {
+          joinTail();
+        }
+        return true;
+      }
+      cells -= lengths[last];
+      size--;
+    }
+    return true;
+  }
+
+  /* a single cell left at the tail continues the span before it if it lies in line, as in a rebuild */
+  private void joinTail() {
+    if (size < 2) return;
+    final int last = slot(size - 1);
+    final int previous = slot(size - 2);
+    final int cell = heads[last];
+    size--;
+    final int end = tailCell();
+    final int direction = directionBetween(cell, end);
+    if (direction != NO_DIRECTION && (lengths[previous] == 1 || directions[previous] == direction)) {
+      directions[previous] = direction;
+      lengths[previous]++;
+    } else {
+      size++;
+    }
+  }
+
+  /* the tail end of the last span lies against its direction, as seen from its head end */
+  private int tailCell() {
+    final int last = slot(size - 1);
+    final int steps = lengths[last] - 1;
+    final int x = grid.x(heads[last]);
+    final int y = grid.y(heads[last]);
+    final int direction = directions[last];
+    if (direction == Directions.codeOf(Directions.right())) return grid.cell(x - steps, y);
+    if (direction == Directions.codeOf(Directions.left()))  return grid.cell(x + steps, y);
+    if (direction == Directions.codeOf(Directions.down()))  return grid.cell(x, y - steps);
+    if (direction == Directions.codeOf(Directions.up()))    return grid.cell(x, y + steps);
+    return heads[last];
+  }
+
+  private int slot(final int index) {
+    final int slot = first + index;
+    return slot < heads.length ? slot : slot - heads.length;
+  }
+
+  private void ensureCapacity() {
+    if (size < heads.length) return;
+    heads = unwrap(heads, 2 * heads.length);
+    directions = unwrap(directions, heads.length);
+    lengths = unwrap(lengths, heads.length);
+    first = 0;
+  }
+
+  private int[] unwrap(final int[] spans, final int capacity) {
+    final int[] unwrapped = Arrays.copyOf(spans, capacity);
+    final int firstPart = Math.min(size, spans.length - first);
+    System.arraycopy(spans, first, unwrapped, 0, firstPart);
+    System.arraycopy(spans, 0, unwrapped, firstPart, size - firstPart);
+    return unwrapped;
+  }
+}
@@ -0,0 +1,41 @@
+package de.sebdas;
+
+import java.util.Random;
+
+/**
+ * The same generator as {@link Random}, producing the same numbers for the same seed, but its state can be
+ * read and restored, e.g. for the keyframes of a replay. Unlike {@link Random} it is not thread-safe, and a
+ * Gaussian cached by {@link #nextGaussian()} is not part of the state.
+ */
+final class StatefulRandom extends Random {
+  private static final long serialVersionUID = 1L;
+  private static final long MULTIPLIER = 0x5DEECE66DL;
+  private static final long ADDEND = 0xBL;
+  private static final long MASK = (1L << 48) - 1;
+
+  private long state; // set by the super constructor through setSeed()
+
+  StatefulRandom(final long seed) {
+    super(seed);
+  }
+
+  @Override
+  public synchronized void setSeed(final long seed) {
+    super.setSeed(seed);
+    this.state = (seed ^ MULTIPLIER) & MASK;
+  }
+
+  @Override
+  protected int next(final int bits) {
+    state = (state * MULTIPLIER + ADDEND) & MASK;
+    return (int) (state >>> (48 - bits));
+  }
+
+  long getState() {
+    return state;
+  }
+
+  void setState(final long state) {
+    this.state = state & MASK;
+  }
+}
@@ -0,0 +1,47 @@
+package de.sebdas;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/** Unsigned LEB128 variable-length encoding: 7 bits per byte, the high bit flags that more bytes follow. */
+final class Varint {
+  private Varint() {}
+
+  static void write(final OutputStream out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  static long read(final InputStream in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      final int b = in.read();
+      if (b < 0) throw new EOFException("Truncated varint");
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  static long read(final ByteBuffer in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      final int b;
+      try {
+        b = in.get();
+      } catch (final BufferUnderflowException e) {
+        throw new EOFException("Truncated varint");
+      }
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed varint");
+  }
+}
@@ -0,0 +1,107 @@
+package de.sebdas;
+
+import java.util.Random;
+
+/**
+ * Places food on free cells with a probability proportional to a fixed weight per cell. The weights
+ * of all cells are held in a {@link FenwickTree}, in which a cell's weight drops to zero while it is
+ * occupied, so sampling as well as following a moving snake cost O(log n). The tree holds a
+ * {@code long} per cell of the board, and is rebuilt in place whenever the board is attached or
+ * resynchronized again.
+ */
+final class WeightedFoodDistribution implements FoodDistribution, OccupancyListener {
+
+  @FunctionalInterface
+  interface Weights {
+    long weightOf(Grid grid, int x, int y);
+  }
+
+  /** prefers cells close to the border of the board, with weights falling linearly towards the center */
+  static final Weights NEAR_WALLS = (grid, x, y) -> {
+    final int maxDistance = Math.min(grid.getWidth() - 1, grid.getHeight() - 1) / 2;
+    final int distance = Math.min(Math.min(x, grid.getWidth() - 1 - x),
+                                  Math.min(y, grid.getHeight() - 1 - y));
+    return Math.max(maxDistance - distance, 0) + 1L;
+  };
+
+  private final Weights weights;
+  private Grid grid;
+  private long[] cellWeights;
+  private FenwickTree tree;
+
+  WeightedFoodDistribution(final Weights weights) {
+    this.weights = weights;
+  }
+
+  static WeightedFoodDistribution nearWalls() {
+    return new WeightedFoodDistribution(NEAR_WALLS);
+  }
+
+  /**
+   * weights the cells by square regions of {@code regionSize} x {@code regionSize} cells, where
+   * {@code regionWeights} holds the weights of the regions row by row
+   */
+  static WeightedFoodDistribution densityMap(final int regionSize, final int regionsPerRow, final long[] regionWeights) {
+    return new WeightedFoodDistribution((grid, x, y) -> {
+      final int region = (y / regionSize) * regionsPerRow + x / regionSize;
+      if (x / regionSize >= regionsPerRow || region >= regionWeights.length) {
+        throw new IllegalArgumentException("Density map does not cover cell (" + x + ", " + y + ")");
+      }
+      return regionWeights[region];
+    });
+  }
+
+  @Override
+  public void attach(final Occupancy occupancy) {
+    grid = occupancy.getGrid();
+    resync(occupancy);
+    occupancy.addListener(this);
+  }
+
+  @Override
+  public void resync(final Occupancy occupancy) {
+    if (cellWeights == null || cellWeights.length != grid.capacity()) {
+      cellWeights = new long[grid.capacity()];
+      tree = null;
+    }
+    for (int cell = 0; cell < cellWeights.length; cell++) {
+      cellWeights[cell] = occupancy.isOccupied(cell) ? 0L : weightOf(cell);
+    }
+    if (tree == null) {
+      tree = new FenwickTree(cellWeights);
+    } else {
+      tree.rebuild(cellWeights);
+    }
+  }
+
+  @Override
+  public void detach(final Occupancy occupancy) {
+    occupancy.removeListener(this);
+  }
+
+  private long weightOf(final int cell) {
+    final long weight = weights.weightOf(grid, grid.x(cell), grid.y(cell));
+    if (weight < 0) {
+      throw new IllegalArgumentException("Weights must not be negative, but was " + weight + " for cell " + cell);
+    }
+    return weight;
+  }
+
+  @Override
+  public void cellOccupied(final int cell) {
+    tree.add(cell, -weightOf(cell));
+  }
+
+  @Override
+  public void cellReleased(final int cell) {
+    tree.add(cell, weightOf(cell));
+  }
+
+  @Override
+  public int nextBite(final Snake snake, final Random random) {
+    final long total = tree.total();
+    if (total == 0) return Occupancy.NO_CELL;
+    final long target = Math.min((long) (random.nextDouble() * total), total - 1);
+    return tree.find(target);
+  }
+}
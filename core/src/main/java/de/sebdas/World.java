@@ -0,0 +1,519 @@
+package de.sebdas;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+class World {
+  static final int DEFAULT_WIDTH_TILES = 15;
+  static final int DEFAULT_HEIGHT_TILES = 10;
+  private static final byte MOVES = 0;
+  private static final byte GROWS = 1;
+  private static final byte STAYS = 2;
+
+  private final List<WorldListener> listeners;
+  private final List<InputListener> inputListeners;
+  private final long seed;
+  private final StatefulRandom random;
+  private final Grid grid;
+  private final CellSet food;
+  private FoodDistribution foodDistribution;
+  private final List<Snake> snakes;
+  private Snake snake;
+  private int[] claims;
+  private int claimEpoch;
+  private byte[] moves;
+  private RegionTicker regionTicker;
+  private DistanceField distanceField;
+  private FreeRegions freeRegions;
+  private ChangeLog changeLog;
+  private boolean paused;
+  private long tick;
+
+  World() {
+    this(DEFAULT_WIDTH_TILES, DEFAULT_HEIGHT_TILES);
+  }
+
+  World(final int widthTiles, final int heightTiles) {
+    this(widthTiles, heightTiles, System.nanoTime());
+  }
+
+  /** a world with a given seed places its food reproducibly, given the same inputs at the same ticks */
+  World(final int widthTiles, final int heightTiles, final long seed) {
+    if (widthTiles < Snake.INITIAL_LENGTH) {
+      throw new IllegalArgumentException("World must be at least " + Snake.INITIAL_LENGTH + " tiles wide to hold the initial snake");
+    }
+    this.listeners = new ArrayList<>();
+    this.inputListeners = new ArrayList<>();
+    this.seed = seed;
+    this.random = new StatefulRandom(seed);
+    this.grid = new Grid(widthTiles, heightTiles);
+    this.food = new CellSet();
+    this.snakes = new ArrayList<>();
+    this.foodDistribution = FoodDistribution.uniform();
+    reset();
+  }
+
+  void reset() {
+    for (int i = 0; i < inputListeners.size(); i++) {
+      inputListeners.get(i).beforeReset(this);
+    }
+    setSnake(new Snake(initialHead(), new Occupancy(grid)));
+    this.paused = false;
+    this.tick = 0;
+    createFood();
+  }
+
+  private Coordinate initialHead() {
+    return new Coordinate(getWidth() / 2, getHeight() / 2);
+  }
+
+  /** intended for testing only; takes the other snakes off the board */
+  void setSnake(final Snake snake) {
+    if (this.snake != null) {
+      foodDistribution.detach(this.snake.getOccupancy());
+      if (freeRegions != null) {
+        freeRegions.detach(this.snake.getOccupancy());
+      }
+      if (changeLog != null) {
+        this.snake.getOccupancy().removeListener(changeLog);
+      }
+    }
+    this.snake = snake;
+    snakes.clear();
+    snakes.add(snake);
+    foodDistribution.attach(snake.getOccupancy());
+    if (freeRegions != null) {
+      freeRegions.attach(snake.getOccupancy());
+    }
+    if (changeLog != null) {
+      snake.getOccupancy().addListener(changeLog);
+      changeLog.markEverything();
+    }
+    invalidateDistances();
+  }
+
+  /** takes effect with the next food created */
+  void setFoodDistribution(final FoodDistribution foodDistribution) {
+    this.foodDistribution.detach(snake.getOccupancy());
+    this.foodDistribution = foodDistribution;
+    foodDistribution.attach(snake.getOccupancy());
+  }
+
+  /**
+   * Makes this world a copy of another one of the same size, reusing this world's memory, e.g. to play
+   * ahead without touching the original. Listeners and the food distribution remain this world's own.
+   */
+  void copyFrom(final World other) {
+    if (other.getWidth() != getWidth() || other.getHeight() != getHeight()) {
+      throw new IllegalArgumentException("Cannot copy a world of " + other.getWidth() + " x " + other.getHeight()
+                                         + " tiles into one of " + getWidth() + " x " + getHeight());
+    }
+    snake.copyFrom(other.snake);
+    copyOtherSnakesFrom(other);
+    foodDistribution.resync(snake.getOccupancy());
+    this.food.clear();
+    for (int i = 0; i < other.food.size(); i++) {
+      this.food.add(other.food.get(i));
+    }
+    this.paused = other.paused;
+    this.tick = other.tick;
+    random.setState(other.random.getState());
+    invalidateDistances();
+    if (freeRegions != null) {
+      freeRegions.invalidate();
+    }
+    if (changeLog != null) {
+      changeLog.markEverything();
+    }
+  }
+
+  private void copyOtherSnakesFrom(final World other) {
+    while (snakes.size() > other.snakes.size()) {
+      snakes.remove(snakes.size() - 1);
+    }
+    while (snakes.size() < other.snakes.size()) {
+      snakes.add(new Snake(new int[0], Directions.right(), false, snake.getOccupancy()));
+    }
+    for (int i = 1; i < snakes.size(); i++) {
+      snakes.get(i).copySegmentsFrom(other.snakes.get(i));
+    }
+    if (other.claims != null && claims == null) {
+      claims = new int[grid.capacity()];
+    }
+  }
+
+  /**
+   * Adds another snake of the initial length, e.g. a bot, which shares the board with the snake of the
+   * player. It is steered by turning it directly, and it leaves the board once it collides.
+   */
+  Snake addSnake(final Coordinate head, final Direction direction) {
+    final Occupancy occupancy = snake.getOccupancy();
+    final Direction backwards = Directions.ofCode(Directions.codeOf(direction) ^ 1);
+    final int[] cells = new int[Snake.INITIAL_LENGTH];
+    cells[0] = grid.cell(head);
+    for (int i = 1; i < cells.length; i++) {
+      cells[i] = grid.move(cells[i - 1], backwards);
+    }
+    for (int i = 0; i < cells.length; i++) {
+      if (occupancy.isOccupied(cells[i]) || (i > 0 && cells[i] == cells[0])) {
+        throw new IllegalArgumentException("Cannot place a snake on occupied cell " + grid.coordinate(cells[i]));
+      }
+    }
+    if (claims == null) {
+      claims = new int[grid.capacity()];
+    }
+    final Snake other = new Snake(cells, direction, false, occupancy);
+    snakes.add(other);
+    return other;
+  }
+
+  /**
+   * Moves several snakes in parallel on the pool from now on, with the same outcome as moving them one
+   * after another, which is resumed by passing {@code null}. Pays off for thousands of snakes.
+   */
+  void setTickPool(final ForkJoinPool pool) {
+    regionTicker = pool == null ? null : new RegionTicker(grid, pool);
+  }
+
+  /** @return the snakes on the board, starting with the one of the player */
+  List<Snake> getSnakes() {
+    return Collections.unmodifiableList(snakes);
+  }
+
+  /** continues from a recorded state, see {@link Keyframe} */
+  void restore(final long tick, final long randomState, final Snake snake, final int[] foodCells) {
+    setSnake(snake);
+    this.food.clear();
+    for (final int bite : foodCells) {
+      this.food.add(bite);
+    }
+    this.paused = false;
+    this.tick = tick;
+    random.setState(randomState);
+  }
+
+  void setFood(final Set<Coordinate> food) {
+    logFood();
+    this.food.clear();
+    for (final Coordinate bite : food) {
+      this.food.add(grid.cell(bite));
+    }
+    logFood();
+  }
+
+  /**
+   * @return the cells that changed since the log was last cleared, which is up to the caller, e.g. a
+   * painter after each frame; the log is kept from the first call on
+   */
+  ChangeLog getChangeLog() {
+    if (changeLog == null) {
+      changeLog = new ChangeLog(grid);
+      snake.getOccupancy().addListener(changeLog);
+    }
+    return changeLog;
+  }
+
+  /* eaten food needs no logging, since the head of a snake covers it */
+  private void logFood() {
+    if (changeLog == null) return;
+    for (int i = 0; i < food.size(); i++) {
+      changeLog.add(food.get(i));
+    }
+  }
+
+  /* a head that collided with another snake leaves the occupancy of its cell as it was, but not its color */
+  private void logHeads() {
+    if (changeLog == null) return;
+    for (int i = 0; i < snakes.size(); i++) {
+      changeLog.add(snakes.get(i).getHeadCell());
+    }
+  }
+
+  boolean isFood(final int cell) {
+    return food.contains(cell);
+  }
+
+  void addListener(final WorldListener listener) {
+    listeners.add(listener);
+  }
+
+  void removeListener(final WorldListener listener) {
+    listeners.remove(listener);
+  }
+
+  void addInputListener(final InputListener listener) {
+    inputListeners.add(listener);
+  }
+
+  void removeInputListener(final InputListener listener) {
+    inputListeners.remove(listener);
+  }
+
+  private void notifyListeners() {
+    for (int i = 0; i < listeners.size(); i++) {
+      listeners.get(i).worldChanged(this);
+    }
+  }
+
+  int getWidth() {
+    return grid.getWidth();
+  }
+
+  int getHeight() {
+    return grid.getHeight();
+  }
+
+  Grid getGrid() {
+    return grid;
+  }
+
+  long getSeed() {
+    return seed;
+  }
+
+  /** @return the number of pulses the snake has moved since the last reset */
+  long getTick() {
+    return tick;
+  }
+
+  long getRandomState() {
+    return random.getState();
+  }
+
+  /** changes the course of the food to come */
+  void setRandomState(final long state) {
+    random.setState(state);
+  }
+
+  Snake getSnake() {
+    return snake;
+  }
+
+  Set<Coordinate> getFood() {
+    final Set<Coordinate> coordinates = new HashSet<>();
+    for (int i = 0; i < food.size(); i++) {
+      coordinates.add(grid.coordinate(food.get(i)));
+    }
+    return Collections.unmodifiableSet(coordinates);
+  }
+
+  int getFoodCount() {
+    return food.size();
+  }
+
+  int getFoodCell(final int index) {
+    return food.get(index);
+  }
+
+  /**
+   * @return the number of steps from the snake's head to the cell over free cells, or
+   * {@link DistanceField#UNREACHABLE}; the distances follow the pulses of the world
+   */
+  int distanceFromHead(final int cell) {
+    if (distanceField == null) {
+      distanceField = new DistanceField(grid);
+    }
+    return distanceField.distance(snake, cell);
+  }
+
+  /** @return the number of free cells reachable from the cell including itself, or 0 if it is occupied */
+  int reachableFreeCells(final int cell) {
+    return freeRegions().reachableCount(cell);
+  }
+
+  /** @return whether both cells are free and connected over free cells */
+  boolean areConnected(final int cell, final int otherCell) {
+    return freeRegions().isConnected(cell, otherCell);
+  }
+
+  private FreeRegions freeRegions() {
+    if (freeRegions == null) {
+      freeRegions = new FreeRegions(grid);
+      freeRegions.attach(snake.getOccupancy());
+    }
+    return freeRegions;
+  }
+
+  private void invalidateDistances() {
+    if (distanceField != null) {
+      distanceField.invalidate();
+    }
+  }
+
+  boolean isPaused() {
+    return paused;
+  }
+
+  boolean noCollisionDetected() {
+    return snake.noCollisionDetected();
+  }
+
+  void pulse() {
+    if (paused) return;
+    tick++;
+    if (snakes.size() == 1) {
+      updateSnake();
+    } else {
+      updateSnakes();
+    }
+    logHeads();
+    invalidateDistances();
+    notifyListeners();
+  }
+
+  private void updateSnake() {
+    final boolean wasHeadInFood = food.remove(snake.getHeadCell());
+    if (wasHeadInFood) {
+      snake.grow();
+      if (food.isEmpty()) {
+        createFood();
+      }
+    } else {
+      snake.move();
+    }
+  }
+
+  /*
+   * All snakes move at once. The heads move on first while the tails are still in place, just as a
+   * single snake bites its tail when moving onto it, so a head colliding with any snake is found by a
+   * single lookup in the shared occupancy. Heads moving onto the same free cell are found by claiming
+   * the cells in a stamped array, which holds the epoch of the pulse for a claimed cell and its negation
+   * once a second head claims it. The cost of a pulse is thus in proportion to the number of snakes,
+   * not to their lengths, except for the bodies of the snakes that leave the board.
+   */
+  private void updateSnakes() {
+    claimEpoch = Epochs.next(claimEpoch, claims);
+    final boolean eaten = regionTicker != null
+                          ? regionTicker.advance(snakes, snake.getOccupancy(), food, claims, claimEpoch)
+                          : advanceSnakes();
+    removeCollidedSnakes(snake.getHeadCell());
+    if (eaten && food.isEmpty()) {
+      createFood();
+    }
+  }
+
+  private boolean advanceSnakes() {
+    if (moves == null || moves.length < snakes.size()) {
+      moves = new byte[Math.max(snakes.size(), 2 * (moves == null ? 0 : moves.length))];
+    }
+    final Occupancy occupancy = snake.getOccupancy();
+    boolean eaten = false;
+    for (int i = 0; i < snakes.size(); i++) {
+      final Snake moving = snakes.get(i);
+      if (!moving.noCollisionDetected()) { // the collided snake of the player stays in place
+        moves[i] = STAYS;
+        continue;
+      }
+      final boolean wasHeadInFood = food.remove(moving.getHeadCell());
+      eaten |= wasHeadInFood;
+      moves[i] = wasHeadInFood ? GROWS : MOVES;
+      final int next = grid.move(moving.getHeadCell(), moving.getDirection());
+      if (claims[next] == claimEpoch || claims[next] == -claimEpoch) {
+        claims[next] = -claimEpoch;
+      } else if (!occupancy.isOccupied(next)) {
+        claims[next] = claimEpoch;
+      }
+      moving.addHead();
+    }
+
+    final int playerHead = snake.getHeadCell();
+    for (int i = 0; i < snakes.size(); i++) {
+      final Snake moving = snakes.get(i);
+      if (moves[i] == STAYS) continue;
+      if (claims[moving.getHeadCell()] == -claimEpoch) {
+        moving.collide();
+      }
+      if (moves[i] == MOVES) {
+        final int tail = moving.removeTail();
+        if (tail != playerHead) { // any other head on the tail collided and leaves the board
+          occupancy.release(tail);
+        }
+      }
+    }
+    return eaten;
+  }
+
+  /*
+   * The body of a collided snake is its own, though the player's head may have hit it. Its head is on a
+   * cell of another snake, unless it met other heads on a free cell, which is then freed as well unless
+   * the player's head is one of them.
+   */
+  private void removeCollidedSnakes(final int playerHead) {
+    final Occupancy occupancy = snake.getOccupancy();
+    int kept = 1;
+    for (int i = 1; i < snakes.size(); i++) {
+      final Snake other = snakes.get(i);
+      if (other.noCollisionDetected()) {
+        snakes.set(kept++, other);
+        continue;
+      }
+      for (int segment = 1; segment < other.getLength(); segment++) {
+        final int cell = other.getSegment(segment);
+        if (cell != playerHead) {
+          occupancy.release(cell);
+        }
+      }
+      final int head = other.getHeadCell();
+      if (claims[head] == -claimEpoch && head != playerHead) {
+        occupancy.release(head);
+      }
+    }
+    while (snakes.size() > kept) {
+      snakes.remove(snakes.size() - 1);
+    }
+  }
+
+  void onTurn(final Direction direction) {
+    if      (direction == Directions.left())  onLeft();
+    else if (direction == Directions.right()) onRight();
+    else if (direction == Directions.up())    onUp();
+    else if (direction == Directions.down())  onDown();
+  }
+
+  void onLeft() {
+    snake.turnLeft();
+    notifyTurned(Directions.left());
+  }
+
+  void onRight() {
+    snake.turnRight();
+    notifyTurned(Directions.right());
+  }
+
+  void onUp() {
+    snake.turnUp();
+    notifyTurned(Directions.up());
+  }
+
+  void onDown() {
+    snake.turnDown();
+    notifyTurned(Directions.down());
+  }
+
+  private void notifyTurned(final Direction direction) {
+    for (int i = 0; i < inputListeners.size(); i++) {
+      inputListeners.get(i).turned(this, direction);
+    }
+  }
+
+  Coordinate move(final Coordinate coordinate, final Direction direction) {
+    return grid.coordinate(grid.move(grid.cell(coordinate), direction));
+  }
+
+  void createFood() {
+    logFood();
+    food.clear();
+    final int biteCount = random.nextInt(2) + 1;
+    for (int i = 0; i < biteCount; i++) {
+      final int bite = foodDistribution.nextBite(snake, random);
+      if (bite != Occupancy.NO_CELL) {
+        food.add(bite);
+      }
+    }
+    logFood();
+  }
+
+  void togglePause() {
+    paused = !paused;
+  }
+}
@@ -0,0 +1,280 @@
+package de.sebdas;
+
+/**
+ * Many games on boards of the same size, stored as parallel primitive arrays instead of a {@link World}
+ * and a {@link Snake} per game, and advanced all together in one loop per tick. Game by game, it follows
+ * exactly the rules of {@link World#pulse()} with the uniform food distribution, including its random
+ * generator: a game with a given seed plays like a world with the same seed, given the same turns.
+ * <p>
+ * Every game's body is a ring buffer in a shared array, its occupied cells are a bit set in another one,
+ * and the next cell in each direction is looked up in a table shared by all games, which saves the
+ * divisions of {@link Grid#move(int, Direction)}. That table and the rings take O(board) per game, so
+ * the batch is meant for thousands of games on small boards.
+ */
+final class WorldBatch {
+  private static final int MAX_FOOD = 2;
+  private static final long MULTIPLIER = 0x5DEECE66DL; // the generator of java.util.Random
+  private static final long ADDEND = 0xBL;
+  private static final long MASK = (1L << 48) - 1;
+  private static final int CHUNK_SIZE = 64;
+
+  private final Grid grid;
+  private final int capacity;
+  private final int bodyCapacity;
+  private final int wordsPerGame;
+  private final int[] neighbours;
+
+  private final int[] bodies;
+  private final int[] bodyStarts;
+  private final int[] lengths;
+  private final int[] directions;
+  private final boolean[] collided;
+  private final long[] ticks;
+  private final long[] occupied;
+  private final int[] occupiedCounts;
+  private final int[] food;
+  private final int[] foodCounts;
+  private final long[] randomStates;
+
+  /** creates a game for each seed, like {@link World#World(int, int, long)} */
+  WorldBatch(final int width, final int height, final long[] seeds) {
+    if (width < Snake.INITIAL_LENGTH) {
+      throw new IllegalArgumentException("World must be at least " + Snake.INITIAL_LENGTH + " tiles wide to hold the initial snake");
+    }
+    this.grid = new Grid(width, height);
+    this.capacity = grid.capacity();
+    this.bodyCapacity = capacity + 1; // room for a head that bites into a full board, as in Snake
+    this.wordsPerGame = (capacity + Long.SIZE - 1) >>> 6;
+    if (Integer.MAX_VALUE / bodyCapacity < seeds.length) {
+      throw new IllegalArgumentException(seeds.length + " games of " + capacity + " cells exceed the array size");
+    }
+    this.neighbours = new int[capacity << 2];
+    for (int cell = 0; cell < capacity; cell++) {
+      for (int code = 0; code < 4; code++) {
+        neighbours[cell << 2 | code] = grid.move(cell, Directions.ofCode(code));
+      }
+    }
+
+    final int games = seeds.length;
+    this.bodies = new int[games * bodyCapacity];
+    this.bodyStarts = new int[games];
+    this.lengths = new int[games];
+    this.directions = new int[games];
+    this.collided = new boolean[games];
+    this.ticks = new long[games];
+    this.occupied = new long[games * wordsPerGame];
+    this.occupiedCounts = new int[games];
+    this.food = new int[games * MAX_FOOD];
+    this.foodCounts = new int[games];
+    this.randomStates = new long[games];
+    for (int game = 0; game < games; game++) {
+      randomStates[game] = (seeds[game] ^ MULTIPLIER) & MASK;
+      reset(game);
+    }
+  }
+
+  int size() {
+    return lengths.length;
+  }
+
+  Grid getGrid() {
+    return grid;
+  }
+
+  /** like {@link World#reset()}, continuing with the game's random generator */
+  void reset(final int game) {
+    final int bodyOffset = game * bodyCapacity;
+    final int wordOffset = game * wordsPerGame;
+    for (int i = 0; i < wordsPerGame; i++) {
+      occupied[wordOffset + i] = 0;
+    }
+    occupiedCounts[game] = 0;
+    bodyStarts[game] = 0;
+    lengths[game] = 0;
+    int segment = grid.cell(grid.getWidth() / 2, grid.getHeight() / 2);
+    for (int i = 0; i < Snake.INITIAL_LENGTH; i++) {
+      bodies[bodyOffset + lengths[game]++] = segment;
+      occupy(game, segment);
+      segment = neighbours[segment << 2 | Directions.codeOf(Directions.left())];
+    }
+    directions[game] = Directions.codeOf(Directions.right());
+    collided[game] = false;
+    ticks[game] = 0;
+    createFood(game);
+  }
+
+  /** advances every game that has not collided yet by one pulse */
+  void tick() {
+    for (int game = 0; game < lengths.length; game++) {
+      if (collided[game]) continue;
+      ticks[game]++;
+
+      final int bodyOffset = game * bodyCapacity;
+      final int start = bodyStarts[game];
+      final int head = bodies[bodyOffset + start];
+      final boolean wasHeadInFood = removeFood(game, head);
+
+      final int next = neighbours[head << 2 | directions[game]];
+      collided[game] = isOccupied(game, next);
+      final int newStart = start == 0 ? bodyCapacity - 1 : start - 1;
+      bodies[bodyOffset + newStart] = next;
+      bodyStarts[game] = newStart;
+      occupy(game, next);
+
+      if (wasHeadInFood) {
+        lengths[game]++;
+        if (foodCounts[game] == 0) {
+          createFood(game);
+        }
+      } else {
+        int last = newStart + lengths[game];
+        if (last >= bodyCapacity) last -= bodyCapacity;
+        final int tail = bodies[bodyOffset + last];
+        if (tail != next) { // biting the own tail keeps that cell occupied
+          release(game, tail);
+        }
+      }
+    }
+  }
+
+  /** like the turns of {@link Snake}, which never reverse the snake */
+  void turn(final int game, final Direction direction) {
+    final int code = Directions.codeOf(direction);
+    if ((code ^ 1) != directions[game]) { // the codes of opposite directions differ in the lowest bit
+      directions[game] = code;
+    }
+  }
+
+  boolean isCollided(final int game) {
+    return collided[game];
+  }
+
+  long getTick(final int game) {
+    return ticks[game];
+  }
+
+  Direction getDirection(final int game) {
+    return Directions.ofCode(directions[game]);
+  }
+
+  int getLength(final int game) {
+    return lengths[game];
+  }
+
+  /** @return the cell of the segment at the given index, counted from the head */
+  int getSegment(final int game, final int index) {
+    int position = bodyStarts[game] + index;
+    if (position >= bodyCapacity) position -= bodyCapacity;
+    return bodies[game * bodyCapacity + position];
+  }
+
+  int getHeadCell(final int game) {
+    return getSegment(game, 0);
+  }
+
+  boolean isOccupied(final int game, final int cell) {
+    return (occupied[game * wordsPerGame + (cell >>> 6)] & 1L << cell) != 0;
+  }
+
+  int getFoodCount(final int game) {
+    return foodCounts[game];
+  }
+
+  int getFoodCell(final int game, final int index) {
+    return food[game * MAX_FOOD + index];
+  }
+
+  private void occupy(final int game, final int cell) {
+    final int word = game * wordsPerGame + (cell >>> 6);
+    final long bits = occupied[word];
+    if ((bits & 1L << cell) == 0) {
+      occupied[word] = bits | 1L << cell;
+      occupiedCounts[game]++;
+    }
+  }
+
+  private void release(final int game, final int cell) {
+    final int word = game * wordsPerGame + (cell >>> 6);
+    final long bits = occupied[word];
+    if ((bits & 1L << cell) != 0) {
+      occupied[word] = bits & ~(1L << cell);
+      occupiedCounts[game]--;
+    }
+  }
+
+  private boolean removeFood(final int game, final int cell) {
+    final int offset = game * MAX_FOOD;
+    final int count = foodCounts[game];
+    for (int i = 0; i < count; i++) {
+      if (food[offset + i] == cell) {
+        food[offset + i] = food[offset + count - 1];
+        foodCounts[game] = count - 1;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean containsFood(final int game, final int cell) {
+    for (int i = 0; i < foodCounts[game]; i++) {
+      if (food[game * MAX_FOOD + i] == cell) return true;
+    }
+    return false;
+  }
+
+  /* like World.createFood() with Occupancy.randomFreeCell() */
+  private void createFood(final int game) {
+    foodCounts[game] = 0;
+    final int biteCount = nextInt(game, 2) + 1;
+    for (int i = 0; i < biteCount; i++) {
+      final int bite = randomFreeCell(game);
+      if (bite != Occupancy.NO_CELL && !containsFood(game, bite)) { // the same bite twice counts once
+        food[game * MAX_FOOD + foodCounts[game]++] = bite;
+      }
+    }
+  }
+
+  private int randomFreeCell(final int game) {
+    final int freeCount = capacity - occupiedCounts[game];
+    if (freeCount == 0) return Occupancy.NO_CELL;
+    if (occupiedCounts[game] > capacity / 2) return selectFree(game, nextInt(game, freeCount));
+
+    int cell;
+    do {
+      cell = nextInt(game, capacity);
+    } while (isOccupied(game, cell));
+    return cell;
+  }
+
+  /* in the order of ChunkedBitSet.selectClear(), by chunk, then by row, then by column, in O(board) */
+  private int selectFree(final int game, final int n) {
+    int remaining = n;
+    for (int chunkY = 0; chunkY < grid.getHeight(); chunkY += CHUNK_SIZE) {
+      for (int chunkX = 0; chunkX < grid.getWidth(); chunkX += CHUNK_SIZE) {
+        for (int y = chunkY; y < Math.min(chunkY + CHUNK_SIZE, grid.getHeight()); y++) {
+          for (int x = chunkX; x < Math.min(chunkX + CHUNK_SIZE, grid.getWidth()); x++) {
+            final int cell = grid.cell(x, y);
+            if (!isOccupied(game, cell) && remaining-- == 0) return cell;
+          }
+        }
+      }
+    }
+    throw new IllegalStateException("Occupied count out of sync in game " + game);
+  }
+
+  /* java.util.Random.nextInt(int) on the game's state */
+  private int nextInt(final int game, final int bound) {
+    int r = next(game);
+    final int m = bound - 1;
+    if ((bound & m) == 0) return (int) ((bound * (long) r) >> 31);
+    for (int u = r; u - (r = u % bound) + m < 0; u = next(game)) ;
+    return r;
+  }
+
+  /* 31 bits, as Random.next(31) */
+  private int next(final int game) {
+    final long state = (randomStates[game] * MULTIPLIER + ADDEND) & MASK;
+    randomStates[game] = state;
+    return (int) (state >>> (48 - 31));
+  }
+}
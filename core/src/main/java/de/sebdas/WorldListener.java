@@ -0,0 +1,6 @@
+package de.sebdas;
+
+@FunctionalInterface
+interface WorldListener {
+  void worldChanged(World world);
+}
@@ -0,0 +1,39 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("AliasTable")
+class AliasTableTest {
+
+  private static final int SAMPLES = 100_000;
+
+  @Test
+  @DisplayName("sample() should draw indices proportionally to their weights")
+  void test_sample() {
+    final AliasTable aliasTable = new AliasTable(new double[]{1.0, 0.0, 3.0, 6.0});
+    final Random random = new Random(4711);
+    final int[] counts = new int[4];
+
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[aliasTable.sample(random)]++;
+    }
+
+    assertThat(counts[0] / (double) SAMPLES).isCloseTo(0.1, within(0.01));
+    assertThat(counts[1]).isZero();
+    assertThat(counts[2] / (double) SAMPLES).isCloseTo(0.3, within(0.01));
+    assertThat(counts[3] / (double) SAMPLES).isCloseTo(0.6, within(0.01));
+  }
+
+  @Test
+  @DisplayName("constructor should reject weights without a positive sum")
+  void test_constructor_rejects_zero_weights() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new AliasTable(new double[]{0.0, 0.0}));
+  }
+}
@@ -0,0 +1,74 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchRunner")
+class BatchRunnerTest {
+
+  private final BatchRunner runner = new BatchRunner(12, 8, 2_000, random -> new GreedyPilot());
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  @DisplayName("run() should aggregate the results of all games")
+  void test_run() throws InterruptedException {
+    final BatchStatistics statistics = runner.run(200, 42L, pool);
+
+    assertThat(statistics.getGames()).isEqualTo(200);
+    assertThat(statistics.getLengths().getMin()).isGreaterThanOrEqualTo(Snake.INITIAL_LENGTH);
+    assertThat(statistics.getTicks().getMax()).isLessThanOrEqualTo(2_000);
+    assertThat(statistics.getBest().getLength()).isEqualTo(statistics.getLengths().getMax());
+  }
+
+  @Test
+  @DisplayName("run() should not depend on the parallelism")
+  void test_run_deterministic() throws InterruptedException {
+    final ForkJoinPool singleThread = new ForkJoinPool(1);
+    try {
+      final BatchStatistics parallel = runner.run(100, 7L, pool);
+      final BatchStatistics sequential = runner.run(100, 7L, singleThread);
+
+      assertThat(parallel.toString()).isEqualTo(sequential.toString());
+    } finally {
+      singleThread.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("play() should stop at the maximum ticks")
+  void test_play_maxTicks() {
+    final BatchRunner circling = new BatchRunner(12, 8, 50, random -> world -> {});
+
+    final GameResult result = circling.play(new SplittableRandom(1));
+
+    assertThat(result.getTicks()).isEqualTo(50);
+    assertThat(result.isCollided()).isFalse();
+  }
+
+  @Test
+  @DisplayName("play() should be reproducible from the seed of the result")
+  void test_play_seed() {
+    final GameResult result = runner.play(new SplittableRandom(3));
+
+    final World world = new World(12, 8, result.getSeed());
+    final GreedyPilot pilot = new GreedyPilot();
+    while (world.noCollisionDetected() && world.getTick() < 2_000) {
+      pilot.steer(world);
+      world.pulse();
+    }
+
+    assertThat(world.getTick()).isEqualTo(result.getTicks());
+    assertThat(world.getSnake().getLength()).isEqualTo(result.getLength());
+  }
+}
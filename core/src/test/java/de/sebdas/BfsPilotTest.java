@@ -0,0 +1,81 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BfsPilot")
+class BfsPilotTest {
+
+  private final BfsPilot pilot = new BfsPilot();
+
+  @Test
+  @DisplayName("steer() should keep straight on if that is a shortest way")
+  void test_steer_straight() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(12, 5)));
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isEqualTo(Directions.right());
+  }
+
+  @Test
+  @DisplayName("steer() should take the shorter way across the edge")
+  void test_steer_wrap() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(7, 9)));
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isEqualTo(Directions.down());
+  }
+
+  @Test
+  @DisplayName("steer() should find the way around its own body")
+  void test_steer_around_body() {
+    final World world = new World(5, 3, 1L);
+    world.setFood(Set.of(new Coordinate(4, 2)));
+    world.getSnake().turnUp();
+    world.getSnake().grow();
+    world.getSnake().turnLeft();
+    world.getSnake().grow();
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isIn(Directions.left(), Directions.up());
+    final int next = world.getGrid().move(world.getSnake().getHeadCell(), world.getSnake().getDirection());
+    assertThat(world.getSnake().isOccupied(next)).isFalse();
+  }
+
+  @Test
+  @DisplayName("steer() should avoid collisions if no food is reachable")
+  void test_steer_unreachable() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(Set.of());
+    world.getSnake().turnUp();
+    world.getSnake().grow();
+    world.getSnake().turnLeft();
+    world.getSnake().grow();
+    world.getSnake().turnDown();
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isEqualTo(Directions.left());
+  }
+
+  @Test
+  @DisplayName("should grow the snake over a game")
+  void test_game() {
+    final World world = new World(15, 10, 5L);
+    while (world.noCollisionDetected() && world.getTick() < 5_000) {
+      pilot.steer(world);
+      world.pulse();
+    }
+
+    assertThat(world.getSnake().getLength()).isGreaterThan(30);
+  }
+}
@@ -0,0 +1,145 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CellSet")
+class CellSetTest {
+
+  private CellSet cellSet;
+
+  @BeforeEach
+  void setup() {
+    cellSet = new CellSet();
+  }
+
+  @Test
+  @DisplayName("should initially be empty")
+  void test_initially_empty() {
+    assertThat(cellSet.isEmpty()).isTrue();
+    assertThat(cellSet.size()).isZero();
+    assertThat(cellSet.contains(0)).isFalse();
+  }
+
+  @Nested
+  @DisplayName("add()")
+  class Testing_add {
+
+    @Test
+    @DisplayName("should add a new cell")
+    void test_add() {
+      assertThat(cellSet.add(42)).isTrue();
+
+      assertThat(cellSet.contains(42)).isTrue();
+      assertThat(cellSet.size()).isEqualTo(1);
+      assertThat(cellSet.get(0)).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("should not add a cell twice")
+    void test_add_twice() {
+      cellSet.add(42);
+
+      assertThat(cellSet.add(42)).isFalse();
+      assertThat(cellSet.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should grow beyond its initial capacity")
+    void test_add_many() {
+      for (int cell = 0; cell < 1000; cell++) {
+        cellSet.add(cell * 7);
+      }
+
+      assertThat(cellSet.size()).isEqualTo(1000);
+      for (int cell = 0; cell < 1000; cell++) {
+        assertThat(cellSet.contains(cell * 7)).isTrue();
+        assertThat(cellSet.contains(cell * 7 + 1)).isFalse();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("remove()")
+  class Testing_remove {
+
+    @Test
+    @DisplayName("should remove a contained cell")
+    void test_remove() {
+      cellSet.add(1);
+      cellSet.add(2);
+
+      assertThat(cellSet.remove(1)).isTrue();
+
+      assertThat(cellSet.contains(1)).isFalse();
+      assertThat(cellSet.contains(2)).isTrue();
+      assertThat(cellSet.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not remove a missing cell")
+    void test_remove_missing() {
+      cellSet.add(1);
+
+      assertThat(cellSet.remove(2)).isFalse();
+      assertThat(cellSet.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should behave like a HashSet for random additions and removals")
+    void test_remove_random() {
+      final Random random = new Random(4711);
+      final Set<Integer> expected = new HashSet<>();
+
+      for (int i = 0; i < 10_000; i++) {
+        final int cell = random.nextInt(64);
+        if (random.nextBoolean()) {
+          assertThat(cellSet.add(cell)).isEqualTo(expected.add(cell));
+        } else {
+          assertThat(cellSet.remove(cell)).isEqualTo(expected.remove(cell));
+        }
+        assertThat(cellSet.size()).isEqualTo(expected.size());
+      }
+      for (int cell = 0; cell < 64; cell++) {
+        assertThat(cellSet.contains(cell)).isEqualTo(expected.contains(cell));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("clear() should remove all cells")
+  void test_clear() {
+    cellSet.add(1);
+    cellSet.add(2);
+
+    cellSet.clear();
+
+    assertThat(cellSet.isEmpty()).isTrue();
+    assertThat(cellSet.contains(1)).isFalse();
+    assertThat(cellSet.contains(2)).isFalse();
+    assertThat(cellSet.add(2)).isTrue();
+  }
+
+  @Test
+  @DisplayName("clear() should leave the set usable for repeated refills")
+  void test_clear_repeatedly() {
+    for (int round = 0; round < 100; round++) {
+      cellSet.clear();
+      for (int cell = 0; cell < 5; cell++) {
+        cellSet.add(round * 5 + cell);
+      }
+    }
+
+    assertThat(cellSet.size()).isEqualTo(5);
+    assertThat(cellSet.contains(495)).isTrue();
+    assertThat(cellSet.contains(490)).isFalse();
+  }
+}
@@ -0,0 +1,90 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChangeLog")
+class ChangeLogTest {
+
+  private World world;
+  private Grid grid;
+  private ChangeLog changes;
+
+  @BeforeEach
+  void setup() {
+    world = new World(15, 10, 1L);
+    grid = world.getGrid();
+    world.setFood(emptySet());
+    changes = world.getChangeLog();
+  }
+
+  private Set<Integer> cells() {
+    final Set<Integer> cells = new HashSet<>();
+    for (int i = 0; i < changes.size(); i++) {
+      cells.add(changes.get(i));
+    }
+    return cells;
+  }
+
+  @Test
+  @DisplayName("should note that everything changed before it is cleared first")
+  void test_initial() {
+    assertThat(changes.isEverything()).isTrue();
+    assertThat(changes.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("should log the head and the tail of a moving snake")
+  void test_pulse() {
+    changes.clear();
+
+    world.pulse();
+
+    assertThat(changes.isEverything()).isFalse();
+    assertThat(cells()).containsExactlyInAnyOrder(grid.cell(8, 5), grid.cell(5, 5));
+  }
+
+  @Test
+  @DisplayName("should log food placed and taken away")
+  void test_food() {
+    world.setFood(Set.of(new Coordinate(1, 1)));
+    changes.clear();
+
+    world.setFood(Set.of(new Coordinate(2, 2)));
+
+    assertThat(cells()).containsExactlyInAnyOrder(grid.cell(1, 1), grid.cell(2, 2));
+  }
+
+  @Test
+  @DisplayName("should note that everything changed on reset")
+  void test_reset() {
+    changes.clear();
+
+    world.reset();
+    world.pulse();
+
+    assertThat(changes.isEverything()).isTrue();
+    assertThat(changes.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("should give up logging cells once a quarter of the board changed")
+  void test_limit() {
+    changes.clear();
+
+    for (int i = 0; i < grid.capacity() / 4; i++) { // a staircase that enters a new cell on every pulse
+      if (i % 2 == 0) world.onDown();
+      else            world.onRight();
+      world.pulse();
+    }
+
+    assertThat(changes.isEverything()).isTrue();
+  }
+}
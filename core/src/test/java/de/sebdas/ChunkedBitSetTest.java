@@ -0,0 +1,154 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChunkedBitSet")
+class ChunkedBitSetTest {
+
+  private Grid grid;
+  private ChunkedBitSet bitSet;
+
+  @BeforeEach
+  void setup() {
+    grid = new Grid(100_000, 20_000);
+    bitSet = new ChunkedBitSet(grid);
+  }
+
+  @Test
+  @DisplayName("should initially be empty without any chunks")
+  void test_initially_empty() {
+    assertThat(bitSet.get(grid.cell(0, 0))).isFalse();
+    assertThat(bitSet.get(grid.cell(99_999, 19_999))).isFalse();
+    assertThat(bitSet.getAllocatedChunks()).isZero();
+  }
+
+  @Test
+  @DisplayName("set() and clear() should work as expected")
+  void test_set_and_clear() {
+    final int cell = grid.cell(12_345, 6_789);
+
+    bitSet.set(cell);
+
+    assertThat(bitSet.get(cell)).isTrue();
+    assertThat(bitSet.get(cell + 1)).isFalse();
+    assertThat(bitSet.get(cell - grid.getWidth())).isFalse();
+
+    bitSet.clear(cell);
+
+    assertThat(bitSet.get(cell)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should only allocate chunks for the touched area")
+  void test_chunks_allocated() {
+    bitSet.set(grid.cell(0, 0));
+    bitSet.set(grid.cell(63, 63));
+    bitSet.set(grid.cell(64, 0));
+    bitSet.set(grid.cell(99_999, 19_999));
+
+    assertThat(bitSet.getAllocatedChunks()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("should release a chunk when its last cell is cleared")
+  void test_chunks_released() {
+    bitSet.set(grid.cell(1, 1));
+    bitSet.set(grid.cell(2, 2));
+    bitSet.clear(grid.cell(1, 1));
+    bitSet.clear(grid.cell(1, 1));
+
+    assertThat(bitSet.getAllocatedChunks()).isEqualTo(1);
+
+    bitSet.clear(grid.cell(2, 2));
+
+    assertThat(bitSet.getAllocatedChunks()).isZero();
+    assertThat(bitSet.get(grid.cell(2, 2))).isFalse();
+  }
+
+  @Test
+  @DisplayName("should behave like a BitSet for random updates")
+  void test_random_updates() {
+    final Grid smallGrid = new Grid(150, 130);
+    final ChunkedBitSet chunked = new ChunkedBitSet(smallGrid);
+    final BitSet expected = new BitSet(smallGrid.capacity());
+    final Random random = new Random(4711);
+
+    for (int i = 0; i < 100_000; i++) {
+      final int cell = random.nextInt(smallGrid.capacity());
+      if (random.nextBoolean()) {
+        chunked.set(cell);
+        expected.set(cell);
+      } else {
+        chunked.clear(cell);
+        expected.clear(cell);
+      }
+    }
+    for (int cell = 0; cell < smallGrid.capacity(); cell++) {
+      assertThat(chunked.get(cell)).isEqualTo(expected.get(cell));
+    }
+  }
+
+  @Test
+  @DisplayName("selectClear() should select the clear cells in a fixed order, also in cut-off chunks")
+  void test_selectClear() {
+    final Grid smallGrid = new Grid(150, 130);
+    final ChunkedBitSet chunked = new ChunkedBitSet(smallGrid);
+    final Random random = new Random(4711);
+    for (int i = 0; i < 10_000; i++) {
+      chunked.set(random.nextInt(smallGrid.capacity()));
+    }
+    chunked.indexClearCells();
+    for (int i = 0; i < 10_000; i++) {
+      chunked.clear(random.nextInt(smallGrid.capacity()));
+      chunked.set(random.nextInt(smallGrid.capacity()));
+    }
+
+    final BitSet selected = new BitSet(smallGrid.capacity());
+    int clearCount = 0;
+    for (int cell = 0; cell < smallGrid.capacity(); cell++) {
+      if (!chunked.get(cell)) clearCount++;
+    }
+    int previous = -1;
+    for (int n = 0; n < clearCount; n++) {
+      final int cell = chunked.selectClear(n);
+      assertThat(chunked.get(cell)).isFalse();
+      assertThat(selected.get(cell)).isFalse();
+      selected.set(cell);
+      assertThat(order(smallGrid, cell)).isGreaterThan(previous);
+      previous = order(smallGrid, cell);
+    }
+  }
+
+  /* by chunk, then by row, then by column */
+  private static int order(final Grid grid, final int cell) {
+    final int x = grid.x(cell);
+    final int y = grid.y(cell);
+    final int chunk = (y / 64) * 3 + x / 64;
+    return (chunk * 64 + y % 64) * 64 + x % 64;
+  }
+
+  @Test
+  @DisplayName("copyFrom() should make the sets equal, reusing and releasing chunks")
+  void test_copyFrom() {
+    final Grid smallGrid = new Grid(150, 130);
+    final ChunkedBitSet source = new ChunkedBitSet(smallGrid);
+    final ChunkedBitSet copy = new ChunkedBitSet(smallGrid);
+    source.set(smallGrid.cell(1, 1));
+    source.set(smallGrid.cell(149, 129));
+    copy.set(smallGrid.cell(70, 70));
+
+    copy.copyFrom(source);
+
+    assertThat(copy.getAllocatedChunks()).isEqualTo(2);
+    for (int cell = 0; cell < smallGrid.capacity(); cell++) {
+      assertThat(copy.get(cell)).isEqualTo(source.get(cell));
+    }
+  }
+}
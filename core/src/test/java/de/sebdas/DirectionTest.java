@@ -2,6 +2,7 @@ package de.sebdas;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,6 +12,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 @DisplayName("Direction")
 class DirectionTest {
@@ -142,4 +144,20 @@ class DirectionTest {
       );
     }
   }
+
+  @ParameterizedTest
+  @MethodSource("provideArgumentsFor_toString")
+  @DisplayName("codeOf() and ofCode() should be inverse for all directions")
+  void test_codes(final Direction direction) {
+    final int code = Directions.codeOf(direction);
+
+    assertThat(code).isBetween(0, 3);
+    assertThat(Directions.ofCode(code)).isSameAs(direction);
+  }
+
+  @Test
+  @DisplayName("ofCode() should reject unknown codes")
+  void test_ofCode_unknown() {
+    assertThatIllegalArgumentException().isThrownBy(() -> Directions.ofCode(4));
+  }
 }
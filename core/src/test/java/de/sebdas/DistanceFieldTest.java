@@ -0,0 +1,81 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DistanceField")
+class DistanceFieldTest {
+
+  @Test
+  @DisplayName("distance() should equal a full breadth-first search, queried in any order")
+  void test_distance() {
+    final World world = new World(23, 17, 3L);
+    final Grid grid = world.getGrid();
+    final DistanceField field = new DistanceField(grid);
+    final BfsPilot pilot = new BfsPilot();
+
+    for (int tick = 0; tick < 200 && world.noCollisionDetected(); tick++) {
+      pilot.steer(world);
+      world.pulse();
+      field.invalidate();
+
+      final int[] expected = fullSearch(world.getSnake());
+      for (int i = 0; i < grid.capacity(); i++) {
+        final int cell = (int) ((i * 7919L + tick) % grid.capacity());
+        assertThat(field.distance(world.getSnake(), cell)).as("cell %d at tick %d", cell, tick).isEqualTo(expected[cell]);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("distance() should only expand the search as far as needed")
+  void test_distance_lazy() {
+    final Grid grid = new Grid(200, 200);
+    final Snake snake = new Snake(new Coordinate(100, 100), new Occupancy(grid));
+    final DistanceField field = new DistanceField(grid);
+
+    assertThat(field.distance(snake, grid.cell(101, 101))).isEqualTo(2);
+    assertThat(field.distance(snake, grid.cell(0, 0))).isEqualTo(200);
+    assertThat(field.distance(snake, grid.cell(99, 100))).isEqualTo(DistanceField.UNREACHABLE);
+  }
+
+  @Test
+  @DisplayName("distance() should tell cells cut off by the snake")
+  void test_distance_cut_off() {
+    final Grid grid = new Grid(6, 3);
+    final int[] headAndColumns0And2 = {grid.cell(4, 1), grid.cell(2, 0), grid.cell(2, 1), grid.cell(2, 2),
+                                       grid.cell(0, 0), grid.cell(0, 1), grid.cell(0, 2)};
+    final Snake snake = new Snake(headAndColumns0And2, Directions.right(), false, new Occupancy(grid));
+    final DistanceField field = new DistanceField(grid);
+
+    assertThat(field.distance(snake, grid.cell(1, 1))).isEqualTo(DistanceField.UNREACHABLE);
+    assertThat(field.distance(snake, grid.cell(3, 1))).isEqualTo(1);
+    assertThat(field.distance(snake, grid.cell(5, 0))).isEqualTo(2);
+  }
+
+  private static int[] fullSearch(final Snake snake) {
+    final Grid grid = snake.getOccupancy().getGrid();
+    final int[] distances = new int[grid.capacity()];
+    Arrays.fill(distances, DistanceField.UNREACHABLE);
+    final Deque<Integer> queue = new ArrayDeque<>();
+    distances[snake.getHeadCell()] = 0;
+    queue.add(snake.getHeadCell());
+    while (!queue.isEmpty()) {
+      final int cell = queue.poll();
+      for (int code = 0; code < 4; code++) {
+        final int next = grid.move(cell, Directions.ofCode(code));
+        if (distances[next] == DistanceField.UNREACHABLE && !snake.isOccupied(next)) {
+          distances[next] = distances[cell] + 1;
+          queue.add(next);
+        }
+      }
+    }
+    return distances;
+  }
+}
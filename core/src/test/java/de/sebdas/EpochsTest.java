@@ -0,0 +1,30 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Epochs")
+class EpochsTest {
+
+  @Test
+  @DisplayName("next() should count up without touching the marks")
+  void test_next() {
+    final int[] marks = {3, -3, 2};
+
+    assertThat(Epochs.next(3, marks)).isEqualTo(4);
+    assertThat(marks).containsExactly(3, -3, 2);
+  }
+
+  @Test
+  @DisplayName("next() should clear the marks and start over once the epochs run out")
+  void test_next_wrap() {
+    final int[] marks = {Integer.MAX_VALUE, -Integer.MAX_VALUE, 2};
+    final int[] otherMarks = {Integer.MAX_VALUE};
+
+    assertThat(Epochs.next(Integer.MAX_VALUE, marks, otherMarks)).isEqualTo(1);
+    assertThat(marks).containsOnly(0);
+    assertThat(otherMarks).containsOnly(0);
+  }
+}
@@ -0,0 +1,47 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FarFromHeadFoodDistribution")
+class FarFromHeadFoodDistributionTest {
+
+  private static final int SAMPLES = 10_000;
+
+  private final Random random = new Random(4711);
+
+  @Test
+  @DisplayName("should prefer cells far from the head and never pick occupied cells")
+  void test_nextBite() {
+    final Snake snake = new Snake(new Coordinate(5, 5), new Occupancy(new Grid(11, 11)));
+    final Grid grid = snake.getOccupancy().getGrid();
+    final FarFromHeadFoodDistribution distribution = new FarFromHeadFoodDistribution();
+    distribution.attach(snake.getOccupancy());
+    int far = 0;
+    int near = 0;
+
+    for (int i = 0; i < SAMPLES; i++) {
+      final int bite = distribution.nextBite(snake, random);
+      assertThat(snake.isOccupied(bite)).isFalse();
+      final int distance = Math.abs(grid.x(bite) - 5) + Math.abs(grid.y(bite) - 5);
+      if (distance == 10) far++;
+      if (distance == 1) near++;
+    }
+
+    assertThat(far).isGreaterThan(near);
+  }
+
+  @Test
+  @DisplayName("should fall back to a free cell when the head is surrounded")
+  void test_nextBite_fallback() {
+    final Snake snake = new Snake(new Coordinate(2, 0), new Occupancy(new Grid(4, 1)));
+    final FarFromHeadFoodDistribution distribution = new FarFromHeadFoodDistribution();
+    distribution.attach(snake.getOccupancy());
+
+    assertThat(distribution.nextBite(snake, random)).isEqualTo(3);
+  }
+}
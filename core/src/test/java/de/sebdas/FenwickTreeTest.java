@@ -0,0 +1,76 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("FenwickTree")
+class FenwickTreeTest {
+
+  private final FenwickTree tree = new FenwickTree(new long[]{3, 0, 1, 4, 0, 2});
+
+  @Test
+  @DisplayName("total() should return the sum of all weights")
+  void test_total() {
+    assertThat(tree.size()).isEqualTo(6);
+    assertThat(tree.total()).isEqualTo(10);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0, 0", "2, 0", "3, 2", "4, 3", "7, 3", "8, 5", "9, 5"})
+  @DisplayName("find() should return the index whose weight covers the target")
+  void test_find(final long target, final int expectedIndex) {
+    assertThat(tree.find(target)).isEqualTo(expectedIndex);
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0, 0", "1, 3", "2, 3", "3, 4", "4, 8", "6, 10"})
+  @DisplayName("prefixSum() should return the sum of the weights below the index")
+  void test_prefixSum(final int index, final long expectedSum) {
+    assertThat(tree.prefixSum(index)).isEqualTo(expectedSum);
+  }
+
+  @Test
+  @DisplayName("add() should update the total and the covered ranges")
+  void test_add() {
+    tree.add(0, -3);
+    tree.add(1, 5);
+
+    assertThat(tree.total()).isEqualTo(12);
+    assertThat(tree.find(0)).isEqualTo(1);
+    assertThat(tree.find(4)).isEqualTo(1);
+    assertThat(tree.find(5)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("rebuild() should replace all weights in place")
+  void test_rebuild() {
+    tree.add(0, 5);
+
+    tree.rebuild(new long[]{0, 2, 0, 0, 1, 0});
+
+    assertThat(tree.total()).isEqualTo(3);
+    assertThat(tree.find(0)).isEqualTo(1);
+    assertThat(tree.find(2)).isEqualTo(4);
+    assertThat(tree.prefixSum(4)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("rebuild() should reject a different number of weights")
+  void test_rebuild_otherSize() {
+    assertThatIllegalArgumentException().isThrownBy(() -> tree.rebuild(new long[7]));
+  }
+
+  @Test
+  @DisplayName("find() should never return an index of zero weight")
+  void test_find_skips_zero_weights() {
+    final FenwickTree sparseTree = new FenwickTree(new long[17]);
+    sparseTree.add(16, 1);
+
+    assertThat(sparseTree.find(0)).isEqualTo(16);
+  }
+}
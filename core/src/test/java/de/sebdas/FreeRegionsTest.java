@@ -0,0 +1,116 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FreeRegions")
+class FreeRegionsTest {
+
+  @Test
+  @DisplayName("reachableCount() and isConnected() should equal a flood fill while the snake moves")
+  void test_regions() {
+    final World world = new World(13, 11, 5L);
+    final Grid grid = world.getGrid();
+    final FreeRegions regions = new FreeRegions(grid);
+    regions.attach(world.getSnake().getOccupancy());
+    final BfsPilot pilot = new BfsPilot();
+
+    for (int tick = 0; tick < 500 && world.noCollisionDetected(); tick++) {
+      pilot.steer(world);
+      world.pulse();
+
+      final int[] labels = new int[grid.capacity()];
+      final int[] sizes = floodFill(world.getSnake().getOccupancy(), labels);
+      for (int cell = 0; cell < grid.capacity(); cell++) {
+        final int expected = labels[cell] == 0 ? 0 : sizes[labels[cell]];
+        assertThat(regions.reachableCount(cell)).as("cell %d at tick %d", cell, tick).isEqualTo(expected);
+        final int otherCell = (cell * 31 + tick) % grid.capacity();
+        assertThat(regions.isConnected(cell, otherCell))
+            .as("cells %d and %d at tick %d", cell, otherCell, tick)
+            .isEqualTo(labels[cell] != 0 && labels[cell] == labels[otherCell]);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("should tell regions cut off by the snake")
+  void test_cut_off() {
+    final Grid grid = new Grid(6, 3);
+    final Occupancy occupancy = new Occupancy(grid);
+    final FreeRegions regions = new FreeRegions(grid);
+    regions.attach(occupancy);
+    for (int y = 0; y < 3; y++) {
+      occupancy.occupy(grid.cell(0, y));
+    }
+    assertThat(regions.reachableCount(grid.cell(1, 1))).isEqualTo(15);
+
+    occupancy.occupy(grid.cell(2, 0));
+    occupancy.occupy(grid.cell(2, 1));
+    occupancy.occupy(grid.cell(2, 2));
+
+    assertThat(regions.reachableCount(grid.cell(1, 1))).isEqualTo(3);
+    assertThat(regions.reachableCount(grid.cell(4, 1))).isEqualTo(9);
+    assertThat(regions.reachableCount(grid.cell(2, 1))).isZero();
+    assertThat(regions.isConnected(grid.cell(1, 0), grid.cell(1, 2))).isTrue();
+    assertThat(regions.isConnected(grid.cell(1, 0), grid.cell(3, 0))).isFalse();
+
+    occupancy.release(grid.cell(2, 1));
+
+    assertThat(regions.reachableCount(grid.cell(1, 1))).isEqualTo(13);
+    assertThat(regions.isConnected(grid.cell(1, 0), grid.cell(3, 0))).isTrue();
+  }
+
+  @Test
+  @DisplayName("should not rebuild while the snake moves through open space")
+  void test_incremental() {
+    final Grid grid = new Grid(100, 100);
+    final Occupancy occupancy = new Occupancy(grid);
+    final Snake snake = new Snake(new Coordinate(10, 50), occupancy);
+    final FreeRegions regions = new FreeRegions(grid);
+    regions.attach(occupancy);
+    assertThat(regions.reachableCount(grid.cell(0, 0))).isEqualTo(grid.capacity() - Snake.INITIAL_LENGTH);
+    final int rebuilds = regions.getRebuildCount();
+
+    for (int i = 0; i < 50; i++) {
+      snake.grow();
+      assertThat(regions.reachableCount(grid.cell(0, 0))).isEqualTo(grid.capacity() - snake.getLength());
+    }
+    snake.turnUp();
+    for (int i = 0; i < 20; i++) {
+      snake.move();
+      assertThat(regions.isConnected(grid.cell(0, 0), grid.cell(99, 99))).isTrue();
+    }
+
+    assertThat(regions.getRebuildCount()).isEqualTo(rebuilds);
+  }
+
+  private static int[] floodFill(final Occupancy occupancy, final int[] labels) {
+    final Grid grid = occupancy.getGrid();
+    final int[] sizes = new int[grid.capacity() + 1];
+    final Deque<Integer> queue = new ArrayDeque<>();
+    int label = 0;
+    for (int start = 0; start < grid.capacity(); start++) {
+      if (labels[start] != 0 || occupancy.isOccupied(start)) continue;
+      label++;
+      labels[start] = label;
+      queue.add(start);
+      while (!queue.isEmpty()) {
+        final int cell = queue.poll();
+        sizes[label]++;
+        for (int code = 0; code < 4; code++) {
+          final int neighbour = grid.move(cell, Directions.ofCode(code));
+          if (labels[neighbour] == 0 && !occupancy.isOccupied(neighbour)) {
+            labels[neighbour] = label;
+            queue.add(neighbour);
+          }
+        }
+      }
+    }
+    return sizes;
+  }
+}
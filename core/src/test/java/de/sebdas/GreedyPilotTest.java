@@ -0,0 +1,80 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GreedyPilot")
+class GreedyPilotTest {
+
+  private final GreedyPilot pilot = new GreedyPilot();
+
+  @Test
+  @DisplayName("steer() should head for the food")
+  void test_steer_food() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(7, 2)));
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isEqualTo(Directions.up());
+  }
+
+  @Test
+  @DisplayName("steer() should take the shorter way across the edge")
+  void test_steer_wrap() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(7, 9)));
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isEqualTo(Directions.down());
+  }
+
+  @Test
+  @DisplayName("steer() should avoid its own body")
+  void test_steer_body() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(0, 5)));
+    world.getSnake().turnUp();
+    world.getSnake().grow();
+    world.getSnake().turnLeft();
+    world.getSnake().grow();
+    world.getSnake().turnDown();
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isEqualTo(Directions.left());
+  }
+
+  @Test
+  @DisplayName("steer() should avoid its own body on a board of more than 2^30 cells")
+  void test_steer_body_largeBoard() {
+    final World world = new World(40_000, 30_000, 1L);
+    world.setFood(Set.of(new Coordinate(0, 15_000)));
+    world.getSnake().turnUp();
+    world.getSnake().grow();
+    world.getSnake().turnLeft();
+    world.getSnake().grow();
+    world.getSnake().turnDown();
+
+    pilot.steer(world);
+
+    assertThat(world.getSnake().getDirection()).isEqualTo(Directions.left());
+  }
+
+  @Test
+  @DisplayName("should eat some food over a game")
+  void test_game() {
+    final World world = new World(15, 10, 5L);
+    while (world.noCollisionDetected() && world.getTick() < 1_000) {
+      pilot.steer(world);
+      world.pulse();
+    }
+
+    assertThat(world.getSnake().getLength()).isGreaterThan(Snake.INITIAL_LENGTH);
+  }
+}
@@ -0,0 +1,101 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("Grid")
+class GridTest {
+
+  private static final int WIDTH  = 15;
+  private static final int HEIGHT = 10;
+
+  private final Grid grid = new Grid(WIDTH, HEIGHT);
+
+  @Nested
+  @DisplayName("packing")
+  class Testing_packing {
+
+    @Test
+    @DisplayName("capacity() should return the number of cells")
+    void test_capacity() {
+      assertThat(grid.capacity()).isEqualTo(WIDTH * HEIGHT);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0, 0", "14, 0, 14", "0, 1, 15", "7, 5, 82", "14, 9, 149"})
+    @DisplayName("cell() should pack row by row")
+    void test_cell(final int x, final int y, final int expectedCell) {
+      assertThat(grid.cell(x, y)).isEqualTo(expectedCell);
+      assertThat(grid.cell(new Coordinate(x, y))).isEqualTo(expectedCell);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0", "14, 0", "0, 1", "7, 5", "14, 9"})
+    @DisplayName("x(), y() and coordinate() should unpack what cell() has packed")
+    void test_unpack(final int x, final int y) {
+      final int cell = grid.cell(x, y);
+
+      assertThat(grid.x(cell)).isEqualTo(x);
+      assertThat(grid.y(cell)).isEqualTo(y);
+      assertThat(grid.coordinate(cell)).isEqualTo(new Coordinate(x, y));
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({"0, 1", "1, 0", "-1, 5", "65536, 32768", "100000, 100000"})
+  @DisplayName("constructor should reject empty grids and grids with too many cells for an int")
+  void test_constructor_rejects_illegal_sizes(final int width, final int height) {
+    assertThatIllegalArgumentException().isThrownBy(() -> new Grid(width, height));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideArgumentsFor_move")
+  @DisplayName("move() should work like Coordinate.translated() followed by Coordinate.flipped()")
+  void test_move(final Coordinate coordinate, final Direction direction) {
+    final Coordinate expected = coordinate.translated(direction).flipped(WIDTH, HEIGHT);
+
+    final int moved = grid.move(grid.cell(coordinate), direction);
+
+    assertThat(grid.coordinate(moved)).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> provideArgumentsFor_move() {
+    return Stream.of(
+        Arguments.of(new Coordinate( 1, 1), Directions.left() ),
+        Arguments.of(new Coordinate( 1, 1), Directions.right()),
+        Arguments.of(new Coordinate( 1, 1), Directions.up()   ),
+        Arguments.of(new Coordinate( 1, 1), Directions.down() ),
+
+        Arguments.of(new Coordinate( 0, 1), Directions.left() ),
+        Arguments.of(new Coordinate(14, 1), Directions.right()),
+        Arguments.of(new Coordinate( 1, 0), Directions.up()   ),
+        Arguments.of(new Coordinate( 1, 9), Directions.down() )
+    );
+  }
+
+  @ParameterizedTest
+  @CsvSource({"15, 10", "1, 1", "1, 4", "4, 1", "2, 2"})
+  @DisplayName("neighbours() should find the same cells as move(), indexed by the code of the direction")
+  void test_neighbours(final int width, final int height) {
+    final Grid grid = new Grid(width, height);
+    final int[] neighbours = new int[4];
+
+    for (int cell = 0; cell < grid.capacity(); cell++) {
+      grid.neighbours(cell, neighbours);
+      for (int code = 0; code < 4; code++) {
+        assertThat(neighbours[code]).as("cell %d, code %d", cell, code)
+                                    .isEqualTo(grid.move(cell, Directions.ofCode(code)));
+      }
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HamiltonianCycle")
+class HamiltonianCycleTest {
+
+  @ParameterizedTest
+  @CsvSource({"2, 2", "3, 2", "3, 3", "4, 5", "15, 10", "7, 1", "64, 33"})
+  @DisplayName("should visit every cell once in steps to a neighbour, from any origin")
+  void test_cycle(final int width, final int height) {
+    final Grid grid = new Grid(width, height);
+    for (int origin = 0; origin < grid.capacity(); origin += 1 + grid.capacity() / 5) {
+      final HamiltonianCycle cycle = new HamiltonianCycle(grid, origin);
+      final BitSet visited = new BitSet(grid.capacity());
+
+      int cell = origin;
+      for (int step = 0; step < grid.capacity(); step++) {
+        assertThat(visited.get(cell)).isFalse();
+        assertThat(cycle.position(cell)).isEqualTo(step);
+        visited.set(cell);
+        assertThat(isNeighbour(grid, cell, cycle.next(cell))).isTrue();
+        cell = cycle.next(cell);
+      }
+
+      assertThat(cell).isEqualTo(origin);
+      assertThat(visited.cardinality()).isEqualTo(grid.capacity());
+    }
+  }
+
+  private static boolean isNeighbour(final Grid grid, final int cell, final int other) {
+    for (int code = 0; code < 4; code++) {
+      if (grid.move(cell, Directions.ofCode(code)) == other) return true;
+    }
+    return false;
+  }
+
+  @Test
+  @DisplayName("distance() should count the steps forward along the cycle")
+  void test_distance() {
+    final Grid grid = new Grid(4, 3);
+    final HamiltonianCycle cycle = new HamiltonianCycle(grid, 0);
+    final int third = cycle.next(cycle.next(0));
+
+    assertThat(cycle.distance(0, third)).isEqualTo(2);
+    assertThat(cycle.distance(third, 0)).isEqualTo(10);
+    assertThat(cycle.distance(third, third)).isZero();
+  }
+}
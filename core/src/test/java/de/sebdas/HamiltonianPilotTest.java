@@ -0,0 +1,61 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HamiltonianPilot")
+class HamiltonianPilotTest {
+
+  @ParameterizedTest
+  @CsvSource({"3, 2", "3, 3", "4, 4", "5, 3", "6, 1", "15, 10", "16, 16", "9, 7"})
+  @DisplayName("should fill the whole board without colliding")
+  void test_fill_board(final int width, final int height) {
+    for (long seed = 0; seed < 5; seed++) {
+      final World world = new World(width, height, seed);
+
+      final long ticks = play(world, new HamiltonianPilot());
+
+      assertThat(world.getSnake().getLength()).as("seed %d", seed).isEqualTo(world.getGrid().capacity());
+      assertThat(ticks).isLessThanOrEqualTo((long) world.getGrid().capacity() * world.getGrid().capacity());
+    }
+  }
+
+  @Test
+  @DisplayName("shortcuts should fill the board faster than just following the cycle")
+  void test_shortcuts() {
+    final World world = new World(16, 16, 3L);
+
+    final long ticks = play(world, new HamiltonianPilot());
+
+    final long cycleOnlyBound = (long) world.getGrid().capacity() * (world.getGrid().capacity() - Snake.INITIAL_LENGTH) / 2;
+    assertThat(ticks).isLessThan(cycleOnlyBound);
+  }
+
+  @Test
+  @DisplayName("should take over a world again after its reset")
+  void test_reset() {
+    final World world = new World(6, 5, 1L);
+    final HamiltonianPilot pilot = new HamiltonianPilot();
+    play(world, pilot);
+
+    world.reset();
+    play(world, pilot);
+
+    assertThat(world.getSnake().getLength()).isEqualTo(world.getGrid().capacity());
+  }
+
+  /* until the board is full, where the snake must collide with its next move */
+  private static long play(final World world, final Pilot pilot) {
+    final int capacity = world.getGrid().capacity();
+    while (world.noCollisionDetected() && world.getSnake().getLength() < capacity
+           && world.getTick() < (long) capacity * capacity) {
+      pilot.steer(world);
+      world.pulse();
+    }
+    return world.getTick();
+  }
+}
@@ -0,0 +1,73 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Keyframe")
+class KeyframeTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 3, 4, 5, 50})
+  @DisplayName("read() should restore the world written by write(), which then continues the same")
+  void test_roundTrip(final int growth) throws IOException {
+    final World world = new World(9, 7, 99L);
+    final Grid grid = world.getGrid();
+    world.getSnake().turnDown();
+    for (int i = 0; i < growth; i++) {
+      if (i % 6 == 0) world.getSnake().turnRight();
+      if (i % 6 == 3) world.getSnake().turnDown();
+      world.getSnake().grow();
+    }
+    world.pulse();
+
+    final World restored = new World(9, 7, 1L);
+    Keyframe.read(ByteBuffer.wrap(write(world)), restored);
+
+    assertThat(restored.getTick()).isEqualTo(world.getTick());
+    assertThat(restored.getSnake().getSegments()).isEqualTo(world.getSnake().getSegments());
+    assertThat(restored.getSnake().getDirection()).isEqualTo(world.getSnake().getDirection());
+    assertThat(restored.noCollisionDetected()).isEqualTo(world.noCollisionDetected());
+    assertThat(restored.getFood()).isEqualTo(world.getFood());
+    assertThat(restored.getSnake().isOccupied(grid.cell(world.getSnake().getHead()))).isTrue();
+
+    restored.createFood();
+    world.createFood();
+    assertThat(restored.getFood()).isEqualTo(world.getFood());
+  }
+
+  @Test
+  @DisplayName("write() should take about 2 bits per segment")
+  void test_write_size() throws IOException {
+    final World world = new World(100, 100, 99L);
+    for (int i = 0; i < 400; i++) {
+      world.getSnake().grow();
+    }
+
+    assertThat(write(world).length).isLessThan(120 + 20);
+  }
+
+  @Test
+  @DisplayName("read() should reject cells off the board")
+  void test_read_corrupt() throws IOException {
+    final byte[] keyframe = write(new World(9, 7, 99L));
+
+    assertThatThrownBy(() -> Keyframe.read(ByteBuffer.wrap(keyframe), new World(3, 3, 99L)))
+        .isInstanceOf(IOException.class);
+  }
+
+  private static byte[] write(final World world) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Keyframe.write(world, new DataOutputStream(bytes));
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,119 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeyframedRecorder and KeyframedReplay")
+class KeyframedReplayTest {
+  private static final int KEYFRAME_INTERVAL = 64;
+  private static final int DURATION = 2_000;
+
+  private final Random random = new Random(7);
+  private final Map<Long, World> expectedWorlds = new HashMap<>();
+  private Path recording;
+
+  @BeforeEach
+  void setup(@TempDir final Path directory) throws IOException {
+    recording = directory.resolve("game.snkr");
+    final World world = new World(12, 8, 1234L);
+    try (final OutputStream out = Files.newOutputStream(recording)) {
+      final KeyframedRecorder recorder = new KeyframedRecorder(world, out, KEYFRAME_INTERVAL);
+      play(world);
+      recorder.close();
+    }
+  }
+
+  /* random turns, restarting after each collision like a player would, keeping copies of some states */
+  private void play(final World world) {
+    for (long tick = 0; tick < DURATION; tick++) {
+      if (!world.noCollisionDetected()) {
+        world.reset();
+      }
+      if (random.nextInt(3) == 0) {
+        world.onTurn(Directions.ofCode(random.nextInt(4)));
+      }
+      if (tick % 97 == 0 || tick % KEYFRAME_INTERVAL == 0) {
+        expectedWorlds.put(tick, copy(world));
+      }
+      world.pulse();
+    }
+    expectedWorlds.put((long) DURATION, copy(world));
+  }
+
+  private static World copy(final World world) {
+    final World copy = new World(world.getWidth(), world.getHeight(), world.getSeed());
+    final int[] cells = new int[world.getSnake().getLength()];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = world.getSnake().getSegment(i);
+    }
+    final int[] food = new int[world.getFoodCount()];
+    for (int i = 0; i < food.length; i++) {
+      food[i] = world.getFoodCell(i);
+    }
+    final Snake snake = new Snake(cells, world.getSnake().getDirection(), !world.noCollisionDetected(),
+                                  new Occupancy(copy.getGrid()));
+    copy.restore(world.getTick(), world.getRandomState(), snake, food);
+    return copy;
+  }
+
+  @Test
+  @DisplayName("seek() should restore the world at any tick, in any order")
+  void test_seek() throws IOException {
+    final List<Long> ticks = new ArrayList<>(expectedWorlds.keySet());
+    Collections.shuffle(ticks, random);
+
+    try (final KeyframedReplay replay = new KeyframedReplay(recording)) {
+      assertThat(replay.getDuration()).isEqualTo(DURATION);
+      for (final long tick : ticks) {
+        final World expected = expectedWorlds.get(tick);
+
+        final World world = replay.seek(tick);
+
+        assertThat(world.getTick()).as("tick at %d", tick).isEqualTo(expected.getTick());
+        assertThat(world.getSnake().getSegments()).as("snake at %d", tick).isEqualTo(expected.getSnake().getSegments());
+        assertThat(world.getSnake().getDirection()).as("direction at %d", tick).isEqualTo(expected.getSnake().getDirection());
+        assertThat(world.getFood()).as("food at %d", tick).isEqualTo(expected.getFood());
+        assertThat(world.getRandomState()).as("random at %d", tick).isEqualTo(expected.getRandomState());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("seek() should pulse less often than the keyframe interval")
+  void test_seek_pulses() throws IOException {
+    try (final KeyframedReplay replay = new KeyframedReplay(recording)) {
+      final int[] pulses = {0};
+      replay.seek(0).addListener(world -> pulses[0]++);
+
+      replay.seek(DURATION - 1);
+
+      assertThat(pulses[0]).isLessThan(KEYFRAME_INTERVAL);
+    }
+  }
+
+  @Test
+  @DisplayName("seek() should reject ticks beyond the recording")
+  void test_seek_outOfRange() throws IOException {
+    try (final KeyframedReplay replay = new KeyframedReplay(recording)) {
+      assertThatIllegalArgumentException().isThrownBy(() -> replay.seek(DURATION + 1));
+    }
+  }
+
+  @Test
+  @DisplayName("the constructor should reject other files")
+  void test_constructor_noRecording(@TempDir final Path directory) throws IOException {
+    final Path noRecording = Files.write(directory.resolve("other"), "no recording at all".getBytes());
+
+    assertThatThrownBy(() -> new KeyframedReplay(noRecording)).isInstanceOf(IOException.class);
+  }
+}
@@ -0,0 +1,74 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("MonteCarloPilot")
+class MonteCarloPilotTest {
+
+  private static final long BUDGET_NANOS = 5_000_000;
+
+  private final MonteCarloPilot pilot = new MonteCarloPilot(2, BUDGET_NANOS, 32, 42L);
+
+  @AfterEach
+  void tearDown() {
+    pilot.close();
+  }
+
+  @Test
+  @DisplayName("steer() should run rollouts on copies, leaving the world as it was but for the turn")
+  void test_steer_rollouts() {
+    final World world = new World(15, 10, 1L);
+    final long randomState = world.getRandomState();
+    final Set<Coordinate> food = world.getFood();
+
+    pilot.steer(world);
+
+    assertThat(pilot.getLastRollouts()).isGreaterThanOrEqualTo(2); // at least one per thread
+    assertThat(world.getTick()).isZero();
+    assertThat(world.getRandomState()).isEqualTo(randomState);
+    assertThat(world.getFood()).isEqualTo(food);
+    assertThat(world.getSnake().getLength()).isEqualTo(Snake.INITIAL_LENGTH);
+  }
+
+  @Test
+  @DisplayName("steer() should avoid its own body")
+  void test_steer_body() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(0, 0)));
+    world.getSnake().turnUp();
+    world.getSnake().grow();
+    world.getSnake().turnLeft();
+    world.getSnake().grow();
+    world.getSnake().turnDown();
+
+    pilot.steer(world);
+
+    final Snake snake = world.getSnake();
+    assertThat(snake.isOccupied(world.getGrid().move(snake.getHeadCell(), snake.getDirection()))).isFalse();
+  }
+
+  @Test
+  @DisplayName("should grow the snake over a game")
+  void test_game() {
+    final World world = new World(15, 10, 5L);
+    while (world.noCollisionDetected() && world.getTick() < 150) {
+      pilot.steer(world);
+      world.pulse();
+    }
+
+    assertThat(world.getSnake().getLength()).isGreaterThan(Snake.INITIAL_LENGTH + 2);
+  }
+
+  @Test
+  @DisplayName("the constructor should require a thread")
+  void test_constructor_threads() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new MonteCarloPilot(0));
+  }
+}
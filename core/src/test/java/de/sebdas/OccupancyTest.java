@@ -0,0 +1,129 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Occupancy")
+class OccupancyTest {
+
+  private static final int WIDTH  = 8;
+  private static final int HEIGHT = 4;
+
+  private final Random random = new Random(4711);
+  private Grid grid;
+  private Occupancy occupancy;
+
+  @BeforeEach
+  void setup() {
+    grid = new Grid(WIDTH, HEIGHT);
+    occupancy = new Occupancy(grid);
+  }
+
+  @Test
+  @DisplayName("occupy() and release() should update the counts")
+  void test_occupy_and_release() {
+    occupancy.occupy(3);
+    occupancy.occupy(3);
+    occupancy.occupy(5);
+
+    assertThat(occupancy.isOccupied(3)).isTrue();
+    assertThat(occupancy.getOccupiedCount()).isEqualTo(2);
+    assertThat(occupancy.getFreeCount()).isEqualTo(WIDTH * HEIGHT - 2);
+
+    occupancy.release(3);
+    occupancy.release(3);
+
+    assertThat(occupancy.isOccupied(3)).isFalse();
+    assertThat(occupancy.getOccupiedCount()).isEqualTo(1);
+  }
+
+  @Nested
+  @DisplayName("randomFreeCell()")
+  class Testing_randomFreeCell {
+
+    @Test
+    @DisplayName("should only pick free cells while the board is sparse")
+    void test_randomFreeCell_sparse() {
+      occupyAllBut(WIDTH * HEIGHT / 2);
+
+      assertThat(occupancy.isFreeCellIndexed()).isFalse();
+      assertPicksOnlyFreeCells();
+    }
+
+    @Test
+    @DisplayName("should only pick free cells from the index once the board is crowded")
+    void test_randomFreeCell_crowded() {
+      occupyAllBut(3);
+
+      assertThat(occupancy.isFreeCellIndexed()).isTrue();
+      assertPicksOnlyFreeCells();
+    }
+
+    @Test
+    @DisplayName("should keep the index up to date on release")
+    void test_randomFreeCell_after_release() {
+      occupyAllBut(0);
+      occupancy.release(7);
+
+      assertThat(occupancy.randomFreeCell(random)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should return NO_CELL on a full board")
+    void test_randomFreeCell_full() {
+      occupyAllBut(0);
+
+      assertThat(occupancy.randomFreeCell(random)).isEqualTo(Occupancy.NO_CELL);
+    }
+
+    @Test
+    @DisplayName("should eventually pick every free cell")
+    void test_randomFreeCell_covers_all_free_cells() {
+      occupyAllBut(4);
+      final Set<Integer> picked = new HashSet<>();
+
+      for (int i = 0; i < 1000; i++) {
+        picked.add(occupancy.randomFreeCell(random));
+      }
+
+      assertThat(picked).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("should pick the same cell for the same free cells, whatever the order of changes")
+    void test_randomFreeCell_order_independent() {
+      occupyAllBut(5);
+      occupancy.release(3);
+      occupancy.occupy(3);
+      final Occupancy other = new Occupancy(grid);
+      for (int cell = grid.capacity() - 1; cell >= 0; cell--) {
+        if (occupancy.isOccupied(cell)) other.occupy(cell);
+      }
+
+      for (long seed = 0; seed < 20; seed++) {
+        assertThat(other.randomFreeCell(new Random(seed))).isEqualTo(occupancy.randomFreeCell(new Random(seed)));
+      }
+    }
+
+    private void occupyAllBut(final int freeCount) {
+      for (int cell = 0; cell < grid.capacity() - freeCount; cell++) {
+        occupancy.occupy((cell * 7) % grid.capacity()); // 7 is coprime to the capacity, so all cells are hit
+      }
+    }
+
+    private void assertPicksOnlyFreeCells() {
+      for (int i = 0; i < 1000; i++) {
+        final int cell = occupancy.randomFreeCell(random);
+        assertThat(occupancy.isOccupied(cell)).isFalse();
+      }
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RegionTicker")
+class RegionTickerTest {
+
+  private ForkJoinPool pool;
+
+  @BeforeEach
+  void setup() {
+    pool = new ForkJoinPool(3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  @DisplayName("should split the board into bands of whole chunk rows")
+  void test_regions() {
+    assertThat(new RegionTicker(new Grid(100, 1000), pool).getRegionCount()).isEqualTo(8);
+    assertThat(new RegionTicker(new Grid(100, 64), pool).getRegionCount()).isEqualTo(1);
+    assertThat(new RegionTicker(new Grid(100, 65), pool).getRegionCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should move the snakes just like the sequential pulse")
+  void test_advance() {
+    final World sequential = new World(90, 300, 11L);
+    final World parallel = new World(90, 300, 11L);
+    parallel.setTickPool(pool);
+    final Random placement = new Random(3L);
+    for (int i = 0; i < 400; i++) {
+      final Coordinate head = new Coordinate(placement.nextInt(90), placement.nextInt(300));
+      final Direction direction = Directions.ofCode(placement.nextInt(4));
+      try {
+        sequential.addSnake(head, direction);
+      } catch (final IllegalArgumentException occupied) {
+        continue;
+      }
+      parallel.addSnake(head, direction);
+    }
+    assertThat(parallel.getSnakes().size()).isGreaterThan(300);
+
+    final Random turns = new Random(5L);
+    for (int tick = 0; tick < 300 && sequential.getSnakes().size() > 1; tick++) {
+      for (int i = 0; i < sequential.getSnakes().size(); i++) {
+        final Direction direction = Directions.ofCode(turns.nextInt(4));
+        if (turns.nextInt(4) == 0) {
+          turn(sequential.getSnakes().get(i), direction);
+          turn(parallel.getSnakes().get(i), direction);
+        }
+      }
+      sequential.pulse();
+      parallel.pulse();
+
+      assertThat(parallel.getSnakes()).hasSameSizeAs(sequential.getSnakes());
+      for (int i = 0; i < sequential.getSnakes().size(); i++) {
+        final Snake expected = sequential.getSnakes().get(i);
+        final Snake actual = parallel.getSnakes().get(i);
+        assertThat(actual.getSegments()).as("snake %d at tick %d", i, tick).isEqualTo(expected.getSegments());
+        assertThat(actual.noCollisionDetected()).isEqualTo(expected.noCollisionDetected());
+      }
+      assertThat(parallel.getFoodCount()).isEqualTo(sequential.getFoodCount());
+      for (int i = 0; i < sequential.getFoodCount(); i++) {
+        assertThat(parallel.getFoodCell(i)).isEqualTo(sequential.getFoodCell(i));
+      }
+      assertThat(parallel.getSnake().getOccupancy().getOccupiedCount())
+          .isEqualTo(sequential.getSnake().getOccupancy().getOccupiedCount());
+    }
+  }
+
+  private static void turn(final Snake snake, final Direction direction) {
+    if      (direction == Directions.left())  snake.turnLeft();
+    else if (direction == Directions.right()) snake.turnRight();
+    else if (direction == Directions.up())    snake.turnUp();
+    else                                      snake.turnDown();
+  }
+}
@@ -0,0 +1,72 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InputRecorder and Replay")
+class ReplayTest {
+
+  private final Random random = new Random(7);
+
+  @Test
+  @DisplayName("replay() should reproduce the recorded game")
+  void test_replay() throws IOException {
+    final World world = new World(20, 12, 1234L);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final InputRecorder recorder = new InputRecorder(world, out);
+    play(world, 500);
+    recorder.close();
+
+    final World replayed = Replay.replay(new ByteArrayInputStream(out.toByteArray()));
+
+    assertThat(replayed.getTick()).isEqualTo(world.getTick());
+    assertThat(replayed.getSnake().getSegments()).isEqualTo(world.getSnake().getSegments());
+    assertThat(replayed.getSnake().getDirection()).isEqualTo(world.getSnake().getDirection());
+    assertThat(replayed.getFood()).isEqualTo(world.getFood());
+  }
+
+  @Test
+  @DisplayName("the recording should take about a byte per input")
+  void test_recording_size() throws IOException {
+    final World world = new World(20, 12, 1234L);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final InputRecorder recorder = new InputRecorder(world, out);
+    for (int i = 0; i < 100; i++) {
+      world.pulse();
+      world.onUp();
+    }
+    recorder.close();
+
+    final int headerSize = 4 + 1 + 1 + 1 + 8;
+    assertThat(out.size()).isEqualTo(headerSize + 100 + 1);
+  }
+
+  @Test
+  @DisplayName("replay() should reject other data")
+  void test_replay_noRecording() {
+    final byte[] noRecording = "no recording".getBytes();
+
+    assertThatThrownBy(() -> Replay.replay(new ByteArrayInputStream(noRecording))).isInstanceOf(IOException.class);
+  }
+
+  /* random turns, restarting after each collision like a player would */
+  private void play(final World world, final int pulses) {
+    for (int i = 0; i < pulses; i++) {
+      if (!world.noCollisionDetected()) {
+        world.reset();
+      }
+      if (random.nextInt(3) == 0) {
+        world.onTurn(Directions.ofCode(random.nextInt(4)));
+      }
+      world.pulse();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SnakeGeometry")
+class SnakeGeometryTest {
+
+  private static List<String> spans(final SnakeGeometry geometry) {
+    final List<String> spans = new ArrayList<>();
+    for (int i = 0; i < geometry.size(); i++) {
+      spans.add(geometry.getX(i) + "," + geometry.getY(i) + " " + geometry.getWidth(i) + "x" + geometry.getHeight(i));
+    }
+    return spans;
+  }
+
+  @Test
+  @DisplayName("should merge a straight snake into a single span")
+  void test_straight() {
+    final World world = new World(15, 10, 1L);
+    final SnakeGeometry geometry = new SnakeGeometry(world.getGrid());
+
+    geometry.update(world.getSnake());
+
+    assertThat(spans(geometry)).containsExactly("5,5 3x1");
+  }
+
+  @Test
+  @DisplayName("should split the snake where it turns")
+  void test_turn() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(emptySet());
+    final SnakeGeometry geometry = new SnakeGeometry(world.getGrid());
+    geometry.update(world.getSnake());
+
+    world.onUp();
+    world.pulse();
+    geometry.update(world.getSnake());
+
+    assertThat(spans(geometry)).containsExactly("7,4 1x1", "6,5 2x1");
+  }
+
+  @Test
+  @DisplayName("should split the snake where it wraps around the edge")
+  void test_wrap() {
+    final World world = new World(15, 10, 1L);
+    world.setFood(emptySet());
+    final SnakeGeometry geometry = new SnakeGeometry(world.getGrid());
+    for (int i = 0; i < 8; i++) {
+      world.pulse();
+      geometry.update(world.getSnake());
+    }
+
+    assertThat(spans(geometry)).containsExactly("0,5 1x1", "13,5 2x1");
+  }
+
+  @Test
+  @DisplayName("should cover exactly the segments, updated after any number of pulses")
+  void test_update() {
+    final World world = new World(19, 13, 7L);
+    final SnakeGeometry geometry = new SnakeGeometry(world.getGrid());
+    final GreedyPilot pilot = new GreedyPilot();
+
+    for (int tick = 0; tick < 400 && world.noCollisionDetected(); tick++) {
+      pilot.steer(world);
+      world.pulse();
+      if (tick % 3 != 0) continue;
+      geometry.update(world.getSnake());
+
+      final SnakeGeometry rebuilt = new SnakeGeometry(world.getGrid());
+      rebuilt.update(world.getSnake());
+      assertThat(spans(geometry)).as("tick %d", tick).isEqualTo(spans(rebuilt));
+      int cells = 0;
+      for (int i = 0; i < geometry.size(); i++) {
+        cells += geometry.getWidth(i) * geometry.getHeight(i);
+      }
+      assertThat(cells).isEqualTo(world.getSnake().getLength());
+      assertThat(geometry.size()).isLessThanOrEqualTo(world.getSnake().getLength());
+    }
+    assertThat(world.getSnake().getLength()).isGreaterThan(Snake.INITIAL_LENGTH);
+  }
+
+  @Test
+  @DisplayName("should start over for another snake")
+  void test_otherSnake() {
+    final World world = new World(15, 10, 1L);
+    final SnakeGeometry geometry = new SnakeGeometry(world.getGrid());
+    geometry.update(world.getSnake());
+
+    world.setSnake(new Snake(new Coordinate(3, 2), new Occupancy(world.getGrid())));
+    geometry.update(world.getSnake());
+
+    assertThat(spans(geometry)).containsExactly("1,2 3x1");
+  }
+}
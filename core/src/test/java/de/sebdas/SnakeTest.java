@@ -19,8 +19,7 @@ class SnakeTest {
 
   @BeforeEach
   void setup() {
-    snake = new Snake(initialHead,
-                      (coordinate, direction) -> coordinate.translated(direction).flipped(WORLD_WIDTH, WORLD_HEIGHT));
+    snake = new Snake(initialHead, new Occupancy(new Grid(WORLD_WIDTH, WORLD_HEIGHT)));
   }
 
   @Nested
@@ -43,6 +42,17 @@ class SnakeTest {
       );
     }
 
+    @Test
+    @DisplayName("should have segment cells in order from head to tail")
+    void test_getSegment() {
+      final Grid grid = new Grid(WORLD_WIDTH, WORLD_HEIGHT);
+
+      assertThat(snake.getLength()).isEqualTo(3);
+      assertThat(snake.getSegment(0)).isEqualTo(grid.cell(1, 1));
+      assertThat(snake.getSegment(1)).isEqualTo(grid.cell(0, 1));
+      assertThat(snake.getSegment(2)).isEqualTo(grid.cell(3, 1));
+    }
+
     @Test
     @DisplayName("should have no collision")
     void test_noCollisionDetected() {
@@ -222,4 +232,48 @@ class SnakeTest {
       assertThat(snake.noCollisionDetected()).isFalse();
     }
   }
+
+  @Nested
+  @DisplayName("isOccupied()")
+  class Testing_isOccupied {
+
+    @Test
+    @DisplayName("should initially report exactly the segments as occupied")
+    void test_isOccupied_initially() {
+      assertThat(snake.isOccupied(1, 1)).isTrue();
+      assertThat(snake.isOccupied(0, 1)).isTrue();
+      assertThat(snake.isOccupied(3, 1)).isTrue();
+      assertThat(snake.isOccupied(2, 1)).isFalse();
+      assertThat(snake.isOccupied(1, 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should follow the head and the tail on move()")
+    void test_isOccupied_after_move() {
+      snake.move();
+
+      assertThat(snake.isOccupied(2, 1)).isTrue();
+      assertThat(snake.isOccupied(3, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep the tail occupied on grow()")
+    void test_isOccupied_after_grow() {
+      snake.turnDown();
+      snake.grow();
+
+      assertThat(snake.isOccupied(1, 0)).isTrue();
+      assertThat(snake.isOccupied(3, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep a bitten tail occupied")
+    void test_isOccupied_after_biting_the_tail() {
+      snake.grow();
+      snake.move();
+
+      assertThat(snake.noCollisionDetected()).isFalse();
+      assertThat(snake.isOccupied(3, 1)).isTrue();
+    }
+  }
 }
@@ -0,0 +1,39 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatefulRandom")
+class StatefulRandomTest {
+
+  @Test
+  @DisplayName("should produce the same numbers as Random for the same seed")
+  void test_sameAsRandom() {
+    final Random expected = new Random(42);
+    final StatefulRandom random = new StatefulRandom(42);
+
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(random.nextInt(1 + i)).isEqualTo(expected.nextInt(1 + i));
+      assertThat(random.nextLong()).isEqualTo(expected.nextLong());
+      assertThat(random.nextDouble()).isEqualTo(expected.nextDouble());
+    }
+  }
+
+  @Test
+  @DisplayName("setState() should continue from the state returned by getState()")
+  void test_state() {
+    final StatefulRandom random = new StatefulRandom(42);
+    random.nextInt();
+    final long state = random.getState();
+    final int[] expected = {random.nextInt(), random.nextInt(), random.nextInt()};
+
+    final StatefulRandom restored = new StatefulRandom(7);
+    restored.setState(state);
+
+    assertThat(new int[]{restored.nextInt(), restored.nextInt(), restored.nextInt()}).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,58 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Varint")
+class VarintTest {
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1})
+  @DisplayName("read() should return what write() has written")
+  void test_roundTrip(final long value) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Varint.write(out, value);
+
+    assertThat(Varint.read(new ByteArrayInputStream(out.toByteArray()))).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 127, 128, 16_384, Long.MAX_VALUE, -1})
+  @DisplayName("read() from a buffer should return what write() has written")
+  void test_roundTrip_buffer(final long value) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Varint.write(out, value);
+
+    assertThat(Varint.read(ByteBuffer.wrap(out.toByteArray()))).isEqualTo(value);
+  }
+
+  @Test
+  @DisplayName("write() should take one byte per 7 bits")
+  void test_write_length() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Varint.write(out, 127);
+    Varint.write(out, 128);
+    Varint.write(out, -1);
+
+    assertThat(out.toByteArray()).hasSize(1 + 2 + 10);
+  }
+
+  @Test
+  @DisplayName("read() should fail on a truncated varint")
+  void test_read_truncated() {
+    final byte[] truncated = {(byte) 0x80};
+
+    assertThatThrownBy(() -> Varint.read(new ByteArrayInputStream(truncated))).isInstanceOf(EOFException.class);
+  }
+}
@@ -0,0 +1,98 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("WeightedFoodDistribution")
+class WeightedFoodDistributionTest {
+
+  private static final int SAMPLES = 10_000;
+
+  private final Random random = new Random(4711);
+  private Snake snake;
+
+  @BeforeEach
+  void setup() {
+    snake = new Snake(new Coordinate(2, 0), new Occupancy(new Grid(4, 2)));
+  }
+
+  @Test
+  @DisplayName("should only draw cells of positive weight that are not occupied")
+  void test_nextBite_only_free_weighted_cells() {
+    final WeightedFoodDistribution distribution = new WeightedFoodDistribution((grid, x, y) -> x == 3 || y == 1 ? 1 : 0);
+    distribution.attach(snake.getOccupancy());
+
+    for (int i = 0; i < SAMPLES; i++) {
+      final int bite = distribution.nextBite(snake, random);
+      assertThat(snake.isOccupied(bite)).isFalse();
+      assertThat(bite == 3 || bite >= 4).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("should follow the snake as it moves")
+  void test_nextBite_follows_snake() {
+    final Grid grid = snake.getOccupancy().getGrid();
+    final WeightedFoodDistribution distribution = new WeightedFoodDistribution((g, x, y) -> y == 0 ? 1 : 0);
+    distribution.attach(snake.getOccupancy());
+
+    assertThat(distribution.nextBite(snake, random)).isEqualTo(grid.cell(3, 0));
+
+    snake.move();
+
+    assertThat(distribution.nextBite(snake, random)).isEqualTo(grid.cell(0, 0));
+  }
+
+  @Test
+  @DisplayName("should return NO_CELL when all weighted cells are occupied")
+  void test_nextBite_none() {
+    final WeightedFoodDistribution distribution = new WeightedFoodDistribution((grid, x, y) -> x < 3 && y == 0 ? 1 : 0);
+    distribution.attach(snake.getOccupancy());
+
+    assertThat(distribution.nextBite(snake, random)).isEqualTo(Occupancy.NO_CELL);
+  }
+
+  @Test
+  @DisplayName("nearWalls() should prefer the border over the center")
+  void test_nearWalls() {
+    final Snake snakeInCorner = new Snake(new Coordinate(2, 0), new Occupancy(new Grid(9, 9)));
+    final Grid grid = snakeInCorner.getOccupancy().getGrid();
+    final WeightedFoodDistribution distribution = WeightedFoodDistribution.nearWalls();
+    distribution.attach(snakeInCorner.getOccupancy());
+    int border = 0;
+    int center = 0;
+
+    for (int i = 0; i < SAMPLES; i++) {
+      final int bite = distribution.nextBite(snakeInCorner, random);
+      if (bite == grid.cell(8, 4)) border++;
+      if (bite == grid.cell(4, 4)) center++;
+    }
+
+    assertThat(border).isGreaterThan(3 * center); // the weights are 5 and 1
+  }
+
+  @Test
+  @DisplayName("densityMap() should weight the cells by region")
+  void test_densityMap() {
+    final WeightedFoodDistribution distribution = WeightedFoodDistribution.densityMap(2, 2, new long[]{0, 1, 0, 3});
+    final Snake snakeInLeftHalf = new Snake(new Coordinate(1, 0), new Occupancy(new Grid(4, 4)));
+    final Grid grid = snakeInLeftHalf.getOccupancy().getGrid();
+    distribution.attach(snakeInLeftHalf.getOccupancy());
+    int upperRight = 0;
+
+    for (int i = 0; i < SAMPLES; i++) {
+      final int bite = distribution.nextBite(snakeInLeftHalf, random);
+      assertThat(grid.x(bite)).isGreaterThanOrEqualTo(2);
+      if (grid.y(bite) < 2) upperRight++;
+    }
+
+    // the tail covers (3, 0), leaving 3 cells of weight 1 in the upper and 4 cells of weight 3 in the lower right
+    assertThat(upperRight / (double) SAMPLES).isCloseTo(0.2, within(0.02));
+  }
+}
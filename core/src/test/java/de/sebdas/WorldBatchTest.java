@@ -0,0 +1,105 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@DisplayName("WorldBatch")
+class WorldBatchTest {
+
+  private static final int GAMES = 20;
+
+  @ParameterizedTest
+  @CsvSource({"15, 10", "3, 2", "5, 4", "70, 3"})
+  @DisplayName("tick() should play every game exactly like a World with the same seed")
+  void test_tick_like_world(final int width, final int height) {
+    final long[] seeds = new long[GAMES];
+    final World[] worlds = new World[GAMES];
+    for (int game = 0; game < GAMES; game++) {
+      seeds[game] = 1000L + game;
+      worlds[game] = new World(width, height, seeds[game]);
+    }
+    final WorldBatch batch = new WorldBatch(width, height, seeds);
+    final GreedyPilot pilot = new GreedyPilot();
+    final Random random = new Random(4711);
+
+    for (int tick = 0; tick < 600; tick++) {
+      for (int game = 0; game < GAMES; game++) {
+        final World world = worlds[game];
+        if (!world.noCollisionDetected()) {
+          world.reset();
+          batch.reset(game);
+        }
+        if (random.nextInt(8) == 0) {
+          world.onTurn(Directions.ofCode(random.nextInt(4)));
+        } else {
+          pilot.steer(world);
+        }
+        batch.turn(game, world.getSnake().getDirection());
+        world.pulse();
+      }
+      batch.tick();
+
+      for (int game = 0; game < GAMES; game++) {
+        assertSameGame(batch, game, worlds[game]);
+      }
+    }
+  }
+
+  private static void assertSameGame(final WorldBatch batch, final int game, final World world) {
+    final Snake snake = world.getSnake();
+    assertThat(batch.getTick(game)).isEqualTo(world.getTick());
+    assertThat(batch.isCollided(game)).isEqualTo(!world.noCollisionDetected());
+    assertThat(batch.getDirection(game)).isEqualTo(snake.getDirection());
+    assertThat(batch.getLength(game)).isEqualTo(snake.getLength());
+    for (int i = 0; i < snake.getLength(); i++) {
+      assertThat(batch.getSegment(game, i)).isEqualTo(snake.getSegment(i));
+    }
+    final Set<Integer> food = new HashSet<>();
+    for (int i = 0; i < batch.getFoodCount(game); i++) {
+      food.add(batch.getFoodCell(game, i));
+    }
+    final Set<Integer> expectedFood = new HashSet<>();
+    for (int i = 0; i < world.getFoodCount(); i++) {
+      expectedFood.add(world.getFoodCell(i));
+    }
+    assertThat(food).isEqualTo(expectedFood);
+  }
+
+  @Test
+  @DisplayName("tick() should leave collided games alone")
+  void test_tick_collided() {
+    final WorldBatch batch = new WorldBatch(3, 1, new long[]{1L});
+    batch.turn(0, Directions.up());
+
+    batch.tick();
+    batch.tick();
+
+    assertThat(batch.isCollided(0)).isTrue();
+    assertThat(batch.getTick(0)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("turn() should never reverse the snake")
+  void test_turn_reverse() {
+    final WorldBatch batch = new WorldBatch(15, 10, new long[]{1L});
+
+    batch.turn(0, Directions.left());
+
+    assertThat(batch.getDirection(0)).isEqualTo(Directions.right());
+  }
+
+  @Test
+  @DisplayName("the constructor should reject boards too narrow for the snake")
+  void test_constructor_narrow() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new WorldBatch(2, 10, new long[]{1L}));
+  }
+}
@@ -1,6 +1,5 @@
 package de.sebdas;
 
-import javafx.beans.InvalidationListener;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -21,6 +21,7 @@ import static de.sebdas.SnakeAssert.assertThat;
 import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.*;
 
 @DisplayName("World")
@@ -65,6 +66,22 @@ class WorldTest {
           .allMatch(coordinate -> isInWorldBounds(coordinate));
     }
 
+    @Test
+    @DisplayName("should create a world of the given size")
+    void test_constructor_size() {
+      final World largeWorld = new World(100_000, 20_000);
+
+      assertThat(largeWorld.getWidth()).isEqualTo(100_000);
+      assertThat(largeWorld.getHeight()).isEqualTo(20_000);
+      assertThat(largeWorld.getSnake()).hasHeadAt(new Coordinate(50_000, 10_000));
+    }
+
+    @Test
+    @DisplayName("should reject a world too narrow for the initial snake")
+    void test_constructor_too_narrow() {
+      assertThatIllegalArgumentException().isThrownBy(() -> new World(2, 10));
+    }
+
     @Test
     @DisplayName("should initialize the world as running (not paused)")
     void test_constructor_not_paused() {
@@ -153,23 +170,337 @@ class WorldTest {
 
     @Test
     @DisplayName("addListener() should work as expected")
-    void test_addListener(@Mock final InvalidationListener listenerMock) {
+    void test_addListener(@Mock final WorldListener listenerMock) {
       world.addListener(listenerMock);
 
       world.pulse();
 
-      verify(listenerMock).invalidated(any(World.class));
+      verify(listenerMock).worldChanged(any(World.class));
     }
 
     @Test
     @DisplayName("removeListener() should work as expected")
-    void test_removeListener(@Mock final InvalidationListener listenerMock) {
+    void test_removeListener(@Mock final WorldListener listenerMock) {
       world.addListener(listenerMock);
       world.removeListener(listenerMock);
 
       world.pulse();
 
-      verify(listenerMock, never()).invalidated(any(World.class));
+      verify(listenerMock, never()).worldChanged(any(World.class));
+    }
+
+    @Test
+    @DisplayName("addInputListener() should be told about turns and resets")
+    void test_addInputListener(@Mock final InputListener listenerMock) {
+      world.addInputListener(listenerMock);
+
+      world.onUp();
+      world.reset();
+
+      verify(listenerMock).turned(world, Directions.up());
+      verify(listenerMock).beforeReset(world);
+    }
+
+    @Test
+    @DisplayName("removeInputListener() should work as expected")
+    void test_removeInputListener(@Mock final InputListener listenerMock) {
+      world.addInputListener(listenerMock);
+      world.removeInputListener(listenerMock);
+
+      world.onUp();
+      world.reset();
+
+      verifyZeroInteractions(listenerMock);
+    }
+  }
+
+  @Nested
+  @DisplayName("copyFrom()")
+  class Testing_copyFrom {
+
+    @Test
+    @DisplayName("should copy the snake, the food, the tick and the random state")
+    void test_copyFrom() {
+      final World original = new World(15, 10, 7L);
+      original.onUp();
+      for (int i = 0; i < 30; i++) {
+        original.pulse();
+      }
+      final World copy = new World(15, 10, 1L);
+
+      copy.copyFrom(original);
+
+      assertThat(copy.getSnake().getSegments()).isEqualTo(original.getSnake().getSegments());
+      assertThat(copy.getSnake().getDirection()).isEqualTo(original.getSnake().getDirection());
+      assertThat(copy.getFood()).isEqualTo(original.getFood());
+      assertThat(copy.getTick()).isEqualTo(original.getTick());
+      assertThat(copy.getRandomState()).isEqualTo(original.getRandomState());
+    }
+
+    @Test
+    @DisplayName("should keep a weighted food distribution in step with the copied snake")
+    void test_copyFrom_weighted_distribution() {
+      final World original = new World(15, 10, 7L);
+      original.setFood(emptySet());
+      original.onDown();
+      for (int i = 0; i < 3; i++) {
+        original.pulse();
+      }
+      final World copy = new World(15, 10, 1L);
+      final WeightedFoodDistribution distribution = new WeightedFoodDistribution((grid, x, y) -> x == 7 && y >= 5 ? 1 : 0);
+      copy.setFoodDistribution(distribution);
+
+      copy.copyFrom(original);
+
+      assertThat(bites(copy, distribution)).containsOnly(new Coordinate(7, 5), new Coordinate(7, 9));
+
+      copy.getSnake().move();
+
+      assertThat(bites(copy, distribution)).containsOnly(new Coordinate(7, 5), new Coordinate(7, 6));
+    }
+
+    private Set<Coordinate> bites(final World world, final FoodDistribution distribution) {
+      final Random random = new Random(4711);
+      return Stream.generate(() -> distribution.nextBite(world.getSnake(), random))
+                   .limit(200)
+                   .map(world.getGrid()::coordinate)
+                   .collect(toSet());
+    }
+
+    @Test
+    @DisplayName("should leave the original untouched by the copy playing on")
+    void test_copyFrom_independent() {
+      final World original = new World(15, 10, 7L);
+      final List<Coordinate> segments = List.copyOf(original.getSnake().getSegments());
+      final World copy = new World(15, 10, 1L);
+      copy.copyFrom(original);
+
+      copy.onDown();
+      for (int i = 0; i < 20; i++) {
+        copy.pulse();
+      }
+
+      assertThat(original.getSnake().getSegments()).isEqualTo(segments);
+      for (final Coordinate segment : copy.getSnake().getSegments()) {
+        assertThat(original.getSnake().isOccupied(segment.getX(), segment.getY()))
+            .isEqualTo(segments.contains(segment));
+      }
+    }
+
+    @Test
+    @DisplayName("should reject worlds of another size")
+    void test_copyFrom_otherSize() {
+      assertThatIllegalArgumentException().isThrownBy(() -> world.copyFrom(new World(16, 10, 1L)));
+    }
+  }
+
+  @Test
+  @DisplayName("distanceFromHead() should follow the pulses of the world")
+  void test_distanceFromHead() {
+    final Grid grid = world.getGrid();
+    final int cell = grid.cell(10, 5);
+    world.setFood(emptySet());
+    assertThat(world.distanceFromHead(cell)).isEqualTo(3);
+
+    world.pulse();
+
+    assertThat(world.distanceFromHead(cell)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("reachableFreeCells() and areConnected() should follow the snake")
+  void test_reachableFreeCells() {
+    final Grid grid = world.getGrid();
+    world.setFood(emptySet());
+    final int freeCells = grid.capacity() - Snake.INITIAL_LENGTH;
+    assertThat(world.reachableFreeCells(grid.cell(0, 0))).isEqualTo(freeCells);
+    assertThat(world.reachableFreeCells(world.getSnake().getHeadCell())).isZero();
+
+    world.pulse();
+    world.reset();
+
+    assertThat(world.reachableFreeCells(grid.cell(0, 0))).isEqualTo(freeCells);
+    assertThat(world.areConnected(grid.cell(0, 0), grid.cell(14, 9))).isTrue();
+    assertThat(world.areConnected(grid.cell(0, 0), world.getSnake().getHeadCell())).isFalse();
+  }
+
+  @Nested
+  @DisplayName("several snakes")
+  class Testing_snakes {
+
+    @BeforeEach
+    void setup() {
+      world = new World(15, 10, 1L);
+      world.setFood(emptySet());
+    }
+
+    @Test
+    @DisplayName("addSnake() should place a snake behind its head")
+    void test_addSnake() {
+      final Snake other = world.addSnake(new Coordinate(2, 1), Directions.down());
+
+      assertThat(other.getSegments()).containsExactly(new Coordinate(2, 1), new Coordinate(2, 0), new Coordinate(2, 9));
+      assertThat(other.getDirection()).isEqualTo(Directions.down());
+      assertThat(world.getSnakes()).containsExactly(world.getSnake(), other);
+      assertThat(world.getSnake().getOccupancy().getOccupiedCount()).isEqualTo(2 * Snake.INITIAL_LENGTH);
+    }
+
+    @Test
+    @DisplayName("addSnake() should reject occupied cells")
+    void test_addSnake_occupied() {
+      assertThatIllegalArgumentException().isThrownBy(() -> world.addSnake(new Coordinate(8, 5), Directions.right()));
+    }
+
+    @Test
+    @DisplayName("pulse() should remove snakes meeting head-on")
+    void test_pulse_headOn() {
+      final Snake left = world.addSnake(new Coordinate(2, 1), Directions.right());
+      final Snake right = world.addSnake(new Coordinate(4, 1), Directions.left());
+
+      world.pulse();
+
+      assertThat(left.noCollisionDetected()).isFalse();
+      assertThat(right.noCollisionDetected()).isFalse();
+      assertThat(world.getSnakes()).containsExactly(world.getSnake());
+      assertThat(world.getSnake().getOccupancy().getOccupiedCount()).isEqualTo(Snake.INITIAL_LENGTH);
+      assertThat(world.noCollisionDetected()).isTrue();
+    }
+
+    @Test
+    @DisplayName("pulse() should remove a snake hitting the body of another one")
+    void test_pulse_body() {
+      final Snake other = world.addSnake(new Coordinate(6, 4), Directions.down());
+
+      world.pulse();
+
+      assertThat(other.noCollisionDetected()).isFalse();
+      assertThat(world.getSnakes()).containsExactly(world.getSnake());
+      assertThat(world.getSnake().getSegments())
+          .containsExactly(new Coordinate(8, 5), new Coordinate(7, 5), new Coordinate(6, 5));
+      assertThat(world.getSnake().getOccupancy().getOccupiedCount()).isEqualTo(Snake.INITIAL_LENGTH);
+    }
+
+    @Test
+    @DisplayName("pulse() should stop the player meeting another snake head-on")
+    void test_pulse_headOn_player() {
+      world.addSnake(new Coordinate(9, 5), Directions.left());
+
+      world.pulse();
+
+      assertThat(world.noCollisionDetected()).isFalse();
+      assertThat(world.getSnakes()).containsExactly(world.getSnake());
+      assertThat(world.getSnake().isOccupied(8, 5)).isTrue();
+      assertThat(world.getSnake().getOccupancy().getOccupiedCount()).isEqualTo(Snake.INITIAL_LENGTH);
+    }
+
+    @Test
+    @DisplayName("pulse() should let a snake hit the tail that another one moves away")
+    void test_pulse_tail() {
+      final Snake other = world.addSnake(new Coordinate(5, 4), Directions.down());
+
+      world.pulse();
+
+      assertThat(other.noCollisionDetected()).isFalse();
+      assertThat(world.noCollisionDetected()).isTrue();
+      assertThat(world.getSnake().isOccupied(5, 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("pulse() should keep the occupancy equal to the cells of the snakes")
+    void test_pulse_occupancy() {
+      world = new World(40, 30, 3L);
+      final java.util.Random random = new java.util.Random(5L);
+      for (int i = 0; i < 30; i++) {
+        final Direction upOrDown = random.nextBoolean() ? Directions.up() : Directions.down();
+        world.addSnake(new Coordinate(1 + (i % 12) * 3, 4 + (i / 12) * 8), upOrDown);
+      }
+      final Grid grid = world.getGrid();
+
+      for (int tick = 0; tick < 300; tick++) {
+        for (final Snake snake : world.getSnakes()) {
+          switch (random.nextInt(8)) {
+            case 0: snake.turnLeft(); break;
+            case 1: snake.turnRight(); break;
+            case 2: snake.turnUp(); break;
+            case 3: snake.turnDown(); break;
+            default:
+          }
+        }
+        world.pulse();
+
+        final boolean[] covered = new boolean[grid.capacity()];
+        for (final Snake snake : world.getSnakes()) {
+          for (int i = 0; i < snake.getLength(); i++) {
+            covered[snake.getSegment(i)] = true;
+          }
+        }
+        for (int cell = 0; cell < grid.capacity(); cell++) {
+          assertThat(world.getSnake().isOccupied(cell)).as("cell %d at tick %d", cell, tick).isEqualTo(covered[cell]);
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("copyFrom() should copy the other snakes")
+    void test_copyFrom() {
+      world.addSnake(new Coordinate(2, 1), Directions.down());
+      world.addSnake(new Coordinate(10, 1), Directions.up());
+      world.pulse();
+      final World copy = new World(15, 10, 2L);
+
+      copy.copyFrom(world);
+      copy.pulse();
+      world.pulse();
+
+      assertThat(copy.getSnakes()).hasSize(3);
+      for (int i = 0; i < 3; i++) {
+        assertThat(copy.getSnakes().get(i).getSegments()).isEqualTo(world.getSnakes().get(i).getSegments());
+      }
+    }
+
+    @Test
+    @DisplayName("reset() should remove the other snakes")
+    void test_reset() {
+      world.addSnake(new Coordinate(2, 1), Directions.down());
+
+      world.reset();
+
+      assertThat(world.getSnakes()).containsExactly(world.getSnake());
+    }
+  }
+
+  @Nested
+  @DisplayName("seed and tick")
+  class Testing_seed_and_tick {
+
+    @Test
+    @DisplayName("worlds with the same seed should place the same food")
+    void test_seed() {
+      final World world1 = new World(40, 30, 42L);
+      final World world2 = new World(40, 30, 42L);
+
+      assertThat(world1.getSeed()).isEqualTo(42L);
+      assertThat(world1.getFood()).isEqualTo(world2.getFood());
+    }
+
+    @Test
+    @DisplayName("pulse() should advance the tick, unless paused")
+    void test_tick_pulse() {
+      world.pulse();
+      world.pulse();
+      world.togglePause();
+      world.pulse();
+
+      assertThat(world.getTick()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("reset() should reset the tick")
+    void test_tick_reset() {
+      world.pulse();
+      world.reset();
+
+      assertThat(world.getTick()).isZero();
     }
   }
 
@@ -240,7 +571,7 @@ class WorldTest {
     @DisplayName("the listeners")
     class Testing_listeners {
 
-      @Mock private InvalidationListener listenerMock;
+      @Mock private WorldListener listenerMock;
 
       @BeforeEach
       void setup() {
@@ -252,7 +583,7 @@ class WorldTest {
       void test_pulse_notifies() {
         world.pulse();
 
-        verify(listenerMock).invalidated(any(World.class));
+        verify(listenerMock).worldChanged(any(World.class));
       }
 
       @Test
@@ -261,7 +592,7 @@ class WorldTest {
         world.pulse();
         world.pulse();
 
-        verify(listenerMock, times(2)).invalidated(any(World.class));
+        verify(listenerMock, times(2)).worldChanged(any(World.class));
       }
 
       @Test
@@ -271,7 +602,7 @@ class WorldTest {
 
         world.pulse();
 
-        verify(listenerMock, never()).invalidated(any(World.class));
+        verify(listenerMock, never()).worldChanged(any(World.class));
       }
     }
 
@@ -313,7 +644,7 @@ class WorldTest {
       @DisplayName("should grow when head was in food")
       void test_pulse_grows_when_head_in_food() {
         final Coordinate headPosition = new Coordinate(1, 2);
-        when(snakeMock.getHead()).thenReturn(headPosition);
+        when(snakeMock.getHeadCell()).thenReturn(world.getGrid().cell(headPosition));
         world.setFood(Set.of(headPosition, new Coordinate(3, 4)));
 
         world.pulse();
@@ -327,7 +658,7 @@ class WorldTest {
       void test_pulse_eats_when_head_in_food() {
         final Coordinate headPosition = new Coordinate(1, 2);
         final Coordinate notToBeEaten = new Coordinate(3, 4);
-        when(snakeMock.getHead()).thenReturn(headPosition);
+        when(snakeMock.getHeadCell()).thenReturn(world.getGrid().cell(headPosition));
         world.setFood(Set.of(headPosition, notToBeEaten));
 
         world.pulse();
@@ -339,7 +670,8 @@ class WorldTest {
       @DisplayName("should have fresh food created when head was in the last piece of food")
       void test_pulse_creates_food_when_head_in_last_food() {
         final Coordinate headPosition = new Coordinate(1, 2);
-        when(snakeMock.getHead()).thenReturn(headPosition);
+        when(snakeMock.getHeadCell()).thenReturn(world.getGrid().cell(headPosition));
+        when(snakeMock.getOccupancy()).thenReturn(new Occupancy(world.getGrid()));
         world.setFood(Set.of(headPosition));
 
         world.pulse();
@@ -353,7 +685,7 @@ class WorldTest {
       @Test
       @DisplayName("should move when head was not in food")
       void test_pulse_moves_when_head_not_in_food() {
-        when(snakeMock.getHead()).thenReturn(new Coordinate(0, 0));
+        when(snakeMock.getHeadCell()).thenReturn(world.getGrid().cell(0, 0));
         world.setFood(Set.of(new Coordinate(1, 2), new Coordinate(3, 4)));
 
         world.pulse();
@@ -365,7 +697,7 @@ class WorldTest {
       @Test
       @DisplayName("should leave food untouched when head was not in food")
       void test_pulse_does_not_eat_when_head_not_in_food() {
-        when(snakeMock.getHead()).thenReturn(new Coordinate(0, 0));
+        when(snakeMock.getHeadCell()).thenReturn(world.getGrid().cell(0, 0));
         final Set<Coordinate> food = Set.of(new Coordinate(1, 2), new Coordinate(3, 4));
         world.setFood(food);
 
@@ -376,6 +708,52 @@ class WorldTest {
     }
   }
 
+  @Nested
+  @DisplayName("createFood()")
+  class Testing_createFood {
+
+    @RepeatedTest(5)
+    @DisplayName("should never place food on the snake")
+    void test_createFood_not_on_snake() {
+      final World smallWorld = new World(3, 1);
+
+      smallWorld.createFood();
+
+      assertThat(smallWorld.getFood()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should place food according to the food distribution")
+    void test_createFood_with_distribution() {
+      world.setFoodDistribution((snake, random) -> world.getGrid().cell(0, 0));
+
+      world.createFood();
+
+      assertThat(world.getFood()).containsExactly(new Coordinate(0, 0));
+    }
+
+    @Test
+    @DisplayName("should keep a weighted food distribution up to date after reset()")
+    void test_createFood_with_weighted_distribution_after_reset() {
+      world.setFoodDistribution(new WeightedFoodDistribution((grid, x, y) -> x == 7 && y == 5 || x == 8 && y == 5 ? 1 : 0));
+      world.reset();
+
+      world.createFood();
+
+      assertThat(world.getFood()).containsExactly(new Coordinate(8, 5));
+    }
+
+    @RepeatedTest(5)
+    @DisplayName("should place food on the only free cell")
+    void test_createFood_on_last_free_cell() {
+      final World smallWorld = new World(4, 1);
+
+      smallWorld.createFood();
+
+      assertThat(smallWorld.getFood()).containsExactly(new Coordinate(3, 0));
+    }
+  }
+
   @Nested
   @DisplayName("change of direction")
   class Testing_turn {
@@ -418,6 +796,14 @@ class WorldTest {
 
       verify(snakeMock).turnDown();
     }
+
+    @Test
+    @DisplayName("onTurn() should turn to the given direction")
+    void test_onTurn() {
+      world.onTurn(Directions.left());
+
+      verify(snakeMock).turnLeft();
+    }
   }
 
   @ParameterizedTest
@@ -0,0 +1,289 @@
+package de.sebdas;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.WritableImage;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Measures the time and the allocations of rendered frames on the headless Monocle platform with the
+ * software pipeline of Prism, so that it needs neither a display nor a GPU, e.g. on a build agent.
+ * <p>
+ * For every board size and way of painting, a {@link GameLoop} plays a scripted game for a fixed number
+ * of frames: a {@link GreedyPilot} plays for a while, then the snake is steered into itself, the warning
+ * is shown for a few frames, and the game is restarted. A frame is timed from within a JavaFX pulse,
+ * from the update of the game loop until the rendering thread has rendered the pulse, which is awaited
+ * by a snapshot of a single pixel queued behind it. The bytes allocated by the application and the
+ * rendering thread during the frame are counted too, including those of that snapshot.
+ * <p>
+ * Run with {@code ./gradlew :fx:frameBenchmark --args="1000 20,80,320"} for 1000 measured frames per run
+ * on boards of 20, 80 and 320 tiles square, after a warm-up of a fifth as many frames.
+ */
+final class HeadlessFrameBenchmark {
+  private static final String[] PAINTS = {"full", "incremental", "pixels", "nodes"};
+  private static final int VIEW_PIXELS = 960;
+  private static final int PLAY_FRAMES = 200;
+  private static final int WARNING_FRAMES = 10;
+
+  public static void main(final String[] args) throws InterruptedException, ExecutionException {
+    final int frames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    final int[] sizes = Arrays.stream((args.length > 1 ? args[1] : "20,80,320").split(","))
+                              .mapToInt(Integer::parseInt)
+                              .toArray();
+
+    setDefault("glass.platform", "Monocle");
+    setDefault("monocle.platform", "Headless");
+    setDefault("prism.order", "sw");
+    setDefault("headless.geometry", VIEW_PIXELS + "x" + VIEW_PIXELS + "-32");
+    setDefault("javafx.animation.fullspeed", "true");
+    final CompletableFuture<Void> started = new CompletableFuture<>();
+    Platform.startup(() -> started.complete(null));
+    started.get();
+    Platform.setImplicitExit(false);
+    System.out.printf("%s pipeline, %d frames per run%n", System.getProperty("prism.order"), frames);
+
+    try {
+      for (final int size : sizes) {
+        for (final String paint : PAINTS) {
+          final Run run = new Run(size, paint);
+          onFxThread(run::open);
+          run.play(frames / 5);
+          run.reset();
+          run.play(frames);
+          onFxThread(run::close);
+          System.out.println(run);
+        }
+      }
+    } finally {
+      Platform.exit();
+    }
+  }
+
+  private static void setDefault(final String key, final String value) {
+    if (System.getProperty(key) == null) {
+      System.setProperty(key, value);
+    }
+  }
+
+  private static void onFxThread(final Runnable runnable) throws InterruptedException, ExecutionException {
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    Platform.runLater(() -> {
+      try {
+        runnable.run();
+        done.complete(null);
+      } catch (RuntimeException e) {
+        done.completeExceptionally(e);
+      }
+    });
+    done.get();
+  }
+
+  /* the frames of one board size and way of painting, played on the JavaFX application thread */
+  private static final class Run {
+    private final int size;
+    private final String paint;
+    private final double tileSize;
+    private final FrameTimes paintTimes;
+    private final FrameTimes warningTimes;
+    private final Semaphore frameDone;
+    private final Rectangle barrier;
+    private final WritableImage barrierImage;
+    private final com.sun.management.ThreadMXBean threads;
+    private long[] threadIds;
+    private World world;
+    private GameLoop gameLoop;
+    private ScriptedPilot pilot;
+    private Stage stage;
+    private boolean frameRequested;
+    private int warnings;
+
+    Run(final int size, final String paint) {
+      this.size = size;
+      this.paint = paint;
+      this.tileSize = Math.max(1, VIEW_PIXELS / size);
+      this.paintTimes = new FrameTimes();
+      this.warningTimes = new FrameTimes();
+      this.frameDone = new Semaphore(0);
+      this.barrier = new Rectangle(1.0, 1.0);
+      this.barrierImage = new WritableImage(1, 1);
+      this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    void open() {
+      world = new World(size, size, 42L);
+      pilot = new ScriptedPilot(new GreedyPilot());
+      final Canvas canvas = new Canvas(size * tileSize, size * tileSize);
+      final Painter painter = createPainter(canvas);
+      painter.setIncremental(!"full".equals(paint));
+      final Node view = painter instanceof NodePainter ? ((NodePainter) painter).getRoot() : canvas;
+      gameLoop = new GameLoop(world, painter, loop -> ManualFrameTimer.INSTANCE);
+
+      final Scene scene = new Scene(new Group(view));
+      scene.addPreLayoutPulseListener(this::frame);
+      stage = new Stage();
+      stage.setScene(scene);
+      stage.show();
+      gameLoop.start();
+    }
+
+    private Painter createPainter(final Canvas canvas) {
+      switch (paint) {
+        case "nodes":
+          return new NodePainter(tileSize, world);
+        case "pixels":
+          return new PixelPainter(canvas.getGraphicsContext2D(), tileSize, world);
+        default:
+          return new Painter(canvas.getGraphicsContext2D(), tileSize, world);
+      }
+    }
+
+    void close() {
+      stage.hide();
+    }
+
+    void reset() {
+      paintTimes.clear();
+      warningTimes.clear();
+    }
+
+    void play(final int frames) throws InterruptedException {
+      for (int i = 0; i < frames; i++) {
+        Platform.runLater(() -> {
+          frameRequested = true;
+          Platform.requestNextPulse();
+        });
+        frameDone.acquire();
+      }
+    }
+
+    /* updates the game within the pulse, so that the pulse renders the frame */
+    private void frame() {
+      if (!frameRequested) return;
+      frameRequested = false;
+      if (threadIds == null) {
+        threadIds = new long[]{Thread.currentThread().getId(), renderThreadId()};
+      }
+      final long allocated = allocatedBytes();
+      final long start = System.nanoTime();
+      final boolean warning = step();
+      Platform.runLater(() -> {
+        barrier.snapshot(null, barrierImage);
+        final long nanos = System.nanoTime() - start;
+        (warning ? warningTimes : paintTimes).add(nanos, allocatedBytes() - allocated);
+        frameDone.release();
+      });
+    }
+
+    /* the game restarts a few frames after the collision, as a player would do; returns whether it warned */
+    private boolean step() {
+      if (world.noCollisionDetected()) {
+        pilot.steer(world);
+        gameLoop.update();
+        return false;
+      }
+      if (++warnings <= WARNING_FRAMES) {
+        gameLoop.update();
+        return true;
+      }
+      warnings = 0;
+      gameLoop.stop();
+      world.reset();
+      pilot.reset();
+      gameLoop.start();
+      return false;
+    }
+
+    private long renderThreadId() {
+      for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+        if (thread.getName().startsWith("QuantumRenderer")) return thread.getId();
+      }
+      return Thread.currentThread().getId();
+    }
+
+    private long allocatedBytes() {
+      long bytes = 0;
+      for (final long allocated : threads.getThreadAllocatedBytes(threadIds)) {
+        bytes += allocated;
+      }
+      return bytes;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%4d x %-4d %-12s paint: %s%n%23s warning: %s", size, size, paint, paintTimes, "", warningTimes);
+    }
+  }
+
+  /** plays with the given pilot for a while after each reset, then steers the snake into itself */
+  private static final class ScriptedPilot implements Pilot {
+    private final Pilot pilot;
+    private int ticks;
+
+    ScriptedPilot(final Pilot pilot) {
+      this.pilot = pilot;
+    }
+
+    void reset() {
+      ticks = 0;
+    }
+
+    /* turning the same way on every tick winds the snake into itself once it is longer than four segments */
+    @Override
+    public void steer(final World world) {
+      if (ticks++ < PLAY_FRAMES) {
+        pilot.steer(world);
+      } else if (world.getSnake().getLength() < 5) {
+        world.onTurn(world.getSnake().getDirection());
+      } else {
+        world.onTurn(clockwise(world.getSnake().getDirection()));
+      }
+    }
+
+    private static Direction clockwise(final Direction direction) {
+      if (direction.equals(Directions.up())) return Directions.right();
+      if (direction.equals(Directions.right())) return Directions.down();
+      if (direction.equals(Directions.down())) return Directions.left();
+      return Directions.up();
+    }
+  }
+
+  /** the times and allocations of a kind of frame */
+  private static final class FrameTimes {
+    private final List<long[]> frames = new ArrayList<>();
+
+    void add(final long nanos, final long bytes) {
+      frames.add(new long[]{nanos, bytes});
+    }
+
+    void clear() {
+      frames.clear();
+    }
+
+    /* the nearest rank of the sorted times */
+    private long percentile(final long[] nanos, final double p) {
+      return nanos[Math.max(0, (int) Math.ceil(p * nanos.length) - 1)];
+    }
+
+    @Override
+    public String toString() {
+      if (frames.isEmpty()) return "no frames";
+      final long[] nanos = frames.stream().mapToLong(frame -> frame[0]).sorted().toArray();
+      final double bytes = frames.stream().mapToLong(frame -> frame[1]).average().orElse(0);
+      return String.format("p50 %7.3f ms, p99 %7.3f ms, max %7.3f ms, %9.0f bytes/frame (%d frames)",
+                           percentile(nanos, 0.50) / 1e6, percentile(nanos, 0.99) / 1e6,
+                           nanos[nanos.length - 1] / 1e6, bytes, nanos.length);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package de.sebdas;
+
+import javafx.scene.canvas.Canvas;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * A frame of the game loop, a pulse and a paint, for each way of painting onto a canvas at different
+ * snake lengths, and for each render backend: a canvas, one that records the operations, whose counts
+ * per frame are printed at the end of the trial, and one that draws nothing. The snake winds diagonally
+ * down the board like a staircase, turning on every cell, so that it cannot be painted as a few straight
+ * runs, and goes round the board forever without running into itself. The painter of the scene graph
+ * draws through no backend and is measured by {@link NodeFrameBenchmark}.
+ * <p>
+ * The canvas is not rendered, as no JavaFX pulse runs, so this measures the cost up to its command buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBenchmark {
+  static final int BOARD_SIZE = 512;
+  private static final double TILE_SIZE = 1.0;
+
+  @Param({"16", "256", "1022"})
+  private int snakeLength;
+
+  @Param({"full", "incremental", "pixels"})
+  private String painterType;
+
+  @Param({"canvas", "recording", "none"})
+  private String backendType;
+
+  private World world;
+  private RecordingBackend recording;
+  private GameLoop gameLoop;
+  private long step;
+  private long frames;
+
+  @Setup
+  public void setup() {
+    world = staircaseWorld(snakeLength);
+    step = snakeLength - 1;
+    final Painter painter = createPainter(createBackend());
+    painter.setIncremental(!"full".equals(painterType));
+    gameLoop = new GameLoop(world, painter, loop -> ManualFrameTimer.INSTANCE);
+    gameLoop.start();
+    if (recording != null) {
+      recording.reset();
+    }
+  }
+
+  private RenderBackend createBackend() {
+    switch (backendType) {
+      case "recording":
+        return recording = new RecordingBackend();
+      case "none":
+        return NoOpBackend.INSTANCE;
+      default:
+        return new CanvasBackend(new Canvas(BOARD_SIZE * TILE_SIZE, BOARD_SIZE * TILE_SIZE).getGraphicsContext2D());
+    }
+  }
+
+  private Painter createPainter(final RenderBackend backend) {
+    return "pixels".equals(painterType)
+        ? new PixelPainter(backend, TILE_SIZE, world)
+        : new Painter(backend, TILE_SIZE, world);
+  }
+
+  @TearDown
+  public void report() {
+    if (recording != null && frames > 0) {
+      System.out.printf("%n%s, %d segments: %.1f operations and %.0f bytes per frame%n", painterType, snakeLength,
+                        (double) recording.getOperationCount() / frames, (double) recording.getByteCount() / frames);
+    }
+  }
+
+  /* a board without food, with a snake of the given length on the first steps of the staircase */
+  static World staircaseWorld(final int snakeLength) {
+    final World world = new World(BOARD_SIZE, BOARD_SIZE, 1L);
+    world.setFood(emptySet());
+    world.setSnake(new Snake(staircase(world.getGrid(), snakeLength), directionOf(snakeLength - 2),
+                             false, new Occupancy(world.getGrid())));
+    return world;
+  }
+
+  /* the cells of the first steps of the staircase from the top left corner, counted from the head */
+  private static int[] staircase(final Grid grid, final int length) {
+    final int[] cells = new int[length];
+    for (int i = 0; i < length; i++) {
+      cells[length - 1 - i] = grid.cell((i + 1) / 2, i / 2);
+    }
+    return cells;
+  }
+
+  /** @return the direction of the given step of the staircase, counted from its top left corner */
+  static Direction directionOf(final long step) {
+    return step % 2 == 0 ? Directions.right() : Directions.down();
+  }
+
+  @Benchmark
+  public World frame() {
+    world.onTurn(directionOf(step++));
+    gameLoop.update();
+    frames++;
+    return world;
+  }
+}
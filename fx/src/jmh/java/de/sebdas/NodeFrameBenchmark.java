@@ -0,0 +1,42 @@
+package de.sebdas;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The frames of {@link FrameBenchmark} for the painter of the scene graph, which draws through no render
+ * backend. The scene graph is not rendered, as no JavaFX pulse runs, so this measures the cost up to the
+ * changed nodes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeFrameBenchmark {
+  private static final double TILE_SIZE = 1.0;
+
+  @Param({"16", "256", "1022"})
+  private int snakeLength;
+
+  private World world;
+  private GameLoop gameLoop;
+  private long step;
+
+  @Setup
+  public void setup() {
+    world = FrameBenchmark.staircaseWorld(snakeLength);
+    step = snakeLength - 1;
+    gameLoop = new GameLoop(world, new NodePainter(TILE_SIZE, world), loop -> ManualFrameTimer.INSTANCE);
+    gameLoop.start();
+  }
+
+  @Benchmark
+  public World frame() {
+    world.onTurn(FrameBenchmark.directionOf(step++));
+    gameLoop.update();
+    return world;
+  }
+}
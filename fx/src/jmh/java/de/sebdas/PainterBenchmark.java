@@ -0,0 +1,60 @@
+package de.sebdas;
+
+import javafx.scene.canvas.Canvas;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full repaint of a board covered by a long snake, once with a {@code fillRect} per tile and once
+ * rasterized into a single image. Neither is rendered, as no JavaFX pulse runs, so this measures the
+ * cost up to the command buffer of the canvas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PainterBenchmark {
+  private static final double TILE_SIZE = 2.0;
+
+  @Param({"64", "512"})
+  private int boardSize;
+
+  @Param({"fillRect", "pixels"})
+  private String painterType;
+
+  private Canvas canvas;
+  private Painter painter;
+
+  @Setup
+  public void setup() {
+    final World world = new World(boardSize, boardSize, 1L);
+    world.setSnake(new Snake(serpentine(world.getGrid(), world.getGrid().capacity() / 2), Directions.right(),
+                             false, new Occupancy(world.getGrid())));
+    world.setFood(Set.of(new Coordinate(0, boardSize - 1)));
+    canvas = new Canvas(boardSize * TILE_SIZE, boardSize * TILE_SIZE);
+    painter = "pixels".equals(painterType)
+        ? new PixelPainter(canvas.getGraphicsContext2D(), TILE_SIZE, world)
+        : new Painter(canvas.getGraphicsContext2D(), TILE_SIZE, world);
+  }
+
+  /* the cells of a snake winding row by row from the top of the board, counted from the head */
+  private static int[] serpentine(final Grid grid, final int length) {
+    final int[] cells = new int[length];
+    for (int i = 0; i < length; i++) {
+      final int y = i / grid.getWidth();
+      final int x = y % 2 == 0 ? i % grid.getWidth() : grid.getWidth() - 1 - i % grid.getWidth();
+      cells[length - 1 - i] = grid.cell(x, y);
+    }
+    return cells;
+  }
+
+  @Benchmark
+  public Canvas paint() {
+    painter.paint();
+    return canvas;
+  }
+}
@@ -0,0 +1,44 @@
+package de.sebdas;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+
+/** draws onto a canvas through its {@link GraphicsContext} */
+final class CanvasBackend implements RenderBackend {
+  private final GraphicsContext gc;
+
+  CanvasBackend(final GraphicsContext gc) {
+    this.gc = gc;
+  }
+
+  @Override
+  public void setFill(final Paint paint) {
+    gc.setFill(paint);
+  }
+
+  @Override
+  public void setStroke(final Paint paint) {
+    gc.setStroke(paint);
+  }
+
+  @Override
+  public void setLineWidth(final double width) {
+    gc.setLineWidth(width);
+  }
+
+  @Override
+  public void fillRect(final double x, final double y, final double width, final double height) {
+    gc.fillRect(x, y, width, height);
+  }
+
+  @Override
+  public void strokeRect(final double x, final double y, final double width, final double height) {
+    gc.strokeRect(x, y, width, height);
+  }
+
+  @Override
+  public void drawImage(final Image image, final double x, final double y, final double width, final double height) {
+    gc.drawImage(image, x, y, width, height);
+  }
+}
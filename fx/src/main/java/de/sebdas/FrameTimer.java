@@ -0,0 +1,12 @@
+package de.sebdas;
+
+/**
+ * Calls the {@link GameLoop} once per frame while started, e.g. an {@code AnimationTimer} on the JavaFX
+ * application thread, or a plain loop that runs the game without a display.
+ */
+interface FrameTimer {
+
+  void start();
+
+  void stop();
+}
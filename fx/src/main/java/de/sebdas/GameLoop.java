@@ -0,0 +1,76 @@
+package de.sebdas;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.Function;
+
+/**
+ * Pulses the {@link World} at a steady rate, as called by a {@link FrameTimer} once per frame, and lets
+ * the {@link Painter} paint it. Neither needs a display, so the game can run headless with a
+ * {@link RenderBackend} that draws nothing.
+ */
+class GameLoop {
+  static final long UPDATE_INTERVAL_NANOS = 18_000_000 * 10;
+
+  private final Painter painter;
+  private final FrameTimer frameTimer;
+  private final World world;
+  private long lastUpdate;
+
+  GameLoop(final World world, final Painter painter, final Function<GameLoop, FrameTimer> frameTimerCreator) {
+    this.painter = painter;
+    this.frameTimer = frameTimerCreator.apply(this);
+    this.world = world;
+
+    this.world.addListener(changedWorld -> this.painter.paint());
+  }
+
+  FrameTimer createFrameTimer() {
+    final AnimationTimer animationTimer = createAnimationTimer();
+    return new FrameTimer() {
+      @Override
+      public void start() {
+        animationTimer.start();
+      }
+
+      @Override
+      public void stop() {
+        animationTimer.stop();
+      }
+    };
+  }
+
+  AnimationTimer createAnimationTimer() {
+    return new AnimationTimer() {
+      @Override
+      public void handle(final long now) {
+        frame(now);
+      }
+    };
+  }
+
+  /** updates the world if the update interval has passed since the last update, given the time of the frame */
+  void frame(final long now) {
+    if (UPDATE_INTERVAL_NANOS <= now - lastUpdate) {
+      lastUpdate = now;
+      update();
+    }
+  }
+
+  void update() {
+    if (world.noCollisionDetected()) {
+      world.pulse();
+    } else {
+      painter.showWarning();
+    }
+  }
+
+  void start() {
+    painter.paint();
+    frameTimer.start();
+  }
+
+  void stop() {
+    frameTimer.stop();
+  }
+}
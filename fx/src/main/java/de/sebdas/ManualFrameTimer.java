@@ -0,0 +1,17 @@
+package de.sebdas;
+
+/** calls nothing, for a {@link GameLoop} whose frames are driven by calling it directly, e.g. in a benchmark */
+final class ManualFrameTimer implements FrameTimer {
+  static final ManualFrameTimer INSTANCE = new ManualFrameTimer();
+
+  private ManualFrameTimer() {
+  }
+
+  @Override
+  public void start() {
+  }
+
+  @Override
+  public void stop() {
+  }
+}
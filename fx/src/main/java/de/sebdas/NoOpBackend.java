@@ -0,0 +1,36 @@
+package de.sebdas;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+
+/** draws nothing, so that what is left of a frame is the cost of the simulation and of the painter itself */
+final class NoOpBackend implements RenderBackend {
+  static final NoOpBackend INSTANCE = new NoOpBackend();
+
+  private NoOpBackend() {
+  }
+
+  @Override
+  public void setFill(final Paint paint) {
+  }
+
+  @Override
+  public void setStroke(final Paint paint) {
+  }
+
+  @Override
+  public void setLineWidth(final double width) {
+  }
+
+  @Override
+  public void fillRect(final double x, final double y, final double width, final double height) {
+  }
+
+  @Override
+  public void strokeRect(final double x, final double y, final double width, final double height) {
+  }
+
+  @Override
+  public void drawImage(final Image image, final double x, final double y, final double width, final double height) {
+  }
+}
@@ -0,0 +1,177 @@
+package de.sebdas;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link Painter} that keeps a {@link Rectangle} node per tile of food or snake in a scene graph,
+ * rather than drawing onto a canvas, and leaves it to JavaFX to render the regions of the nodes that
+ * changed.
+ * <p>
+ * The painter is always incremental: a node is only touched when its cell is in the
+ * {@link World#getChangeLog()}. The nodes of cells that were freed go back to a pool before the changed
+ * cells take nodes from it, so that on a plain pulse the node of the tail is the one moved to the head,
+ * and the scene graph neither grows nor shrinks.
+ */
+final class NodePainter extends Painter {
+  private static final int NO_NODE = -1;
+  private static final double WARNING_WIDTH = 2.5;
+
+  private final double tileSize;
+  private final World world;
+  private final Grid grid;
+  private final Group root;
+  private final Rectangle warning;
+  private final int[] nodeAt;
+  private Rectangle[] nodes;
+  private int[] cellOf;
+  private int[] pool;
+  private int nodeCount;
+  private int pooledCount;
+
+  NodePainter(final double tileSize, final World world) {
+    super(NoOpBackend.INSTANCE, tileSize, world);
+    this.tileSize = tileSize;
+    this.world = world;
+    this.grid = world.getGrid();
+    final Rectangle background = new Rectangle(scale(world.getWidth()), scale(world.getHeight()), BACKGROUND_COLOR);
+    this.warning = new Rectangle(scale(world.getWidth()), scale(world.getHeight()), null);
+    warning.setStrokeType(StrokeType.INSIDE);
+    warning.setStrokeWidth(WARNING_WIDTH);
+    warning.setVisible(false);
+    this.root = new Group(background, warning);
+    this.nodeAt = new int[grid.capacity()];
+    Arrays.fill(nodeAt, NO_NODE);
+    this.nodes = new Rectangle[16];
+    this.cellOf = new int[16];
+    this.pool = new int[16];
+    super.setIncremental(true);
+  }
+
+  /** @return the node to be shown in the scene in place of the canvas */
+  Group getRoot() {
+    return root;
+  }
+
+  /** intended for testing only */
+  int getNodeCount() {
+    return nodeCount;
+  }
+
+  /** intended for testing only */
+  Rectangle getNode(final int cell) {
+    return nodeAt[cell] == NO_NODE ? null : nodes[nodeAt[cell]];
+  }
+
+  /** the nodes are incremental by nature, so this mode cannot be switched off */
+  @Override
+  void setIncremental(final boolean incremental) {
+    invalidate();
+  }
+
+  @Override
+  void showWarning() {
+    warning.setStroke(getWarningColor());
+    warning.setVisible(true);
+    toggleWarningColor();
+  }
+
+  @Override
+  void clearCanvas() {
+    warning.setVisible(false);
+    for (int node = 0; node < nodeCount; node++) {
+      if (cellOf[node] != NO_NODE) {
+        release(cellOf[node]);
+      }
+    }
+  }
+
+  @Override
+  void paintFood() {
+    for (int i = 0; i < world.getFoodCount(); i++) {
+      place(world.getFoodCell(i), FOOD_COLOR);
+    }
+  }
+
+  @Override
+  void paintSnake() {
+    placeSegments(world.getSnake(), SNAKE_COLOR);
+  }
+
+  @Override
+  void paintOtherSnakes() {
+    final List<Snake> snakes = world.getSnakes();
+    for (int i = 1; i < snakes.size(); i++) {
+      placeSegments(snakes.get(i), OTHER_SNAKE_COLOR);
+    }
+  }
+
+  /* the freed cells first, so that the changed cells reuse their nodes */
+  @Override
+  void paintChanges() {
+    final ChangeLog changes = world.getChangeLog();
+    for (int i = 0; i < changes.size(); i++) {
+      final int cell = changes.get(i);
+      if (colorOf(cell) == BACKGROUND_COLOR) {
+        release(cell);
+      }
+    }
+    for (int i = 0; i < changes.size(); i++) {
+      final int cell = changes.get(i);
+      final Color color = colorOf(cell);
+      if (color != BACKGROUND_COLOR) {
+        place(cell, color);
+      }
+    }
+  }
+
+  private void placeSegments(final Snake snake, final Color color) {
+    for (int i = 0; i < snake.getLength(); i++) {
+      place(snake.getSegment(i), color);
+    }
+  }
+
+  private void place(final int cell, final Color color) {
+    int node = nodeAt[cell];
+    if (node == NO_NODE) {
+      node = pooledCount > 0 ? pool[--pooledCount] : createNode();
+      final Rectangle rectangle = nodes[node];
+      rectangle.setX(scale(grid.x(cell)));
+      rectangle.setY(scale(grid.y(cell)));
+      rectangle.setVisible(true);
+      nodeAt[cell] = node;
+      cellOf[node] = cell;
+    }
+    nodes[node].setFill(color);
+  }
+
+  private void release(final int cell) {
+    final int node = nodeAt[cell];
+    if (node == NO_NODE) return;
+    nodes[node].setVisible(false);
+    nodeAt[cell] = NO_NODE;
+    cellOf[node] = NO_NODE;
+    pool[pooledCount++] = node;
+  }
+
+  /* new nodes go below the warning */
+  private int createNode() {
+    if (nodeCount == nodes.length) {
+      nodes = Arrays.copyOf(nodes, 2 * nodeCount);
+      cellOf = Arrays.copyOf(cellOf, 2 * nodeCount);
+      pool = Arrays.copyOf(pool, 2 * nodeCount);
+    }
+    final Rectangle rectangle = new Rectangle(tileSize, tileSize);
+    final ObservableList<Node> children = root.getChildren();
+    children.add(children.size() - 1, rectangle);
+    nodes[nodeCount] = rectangle;
+    return nodeCount++;
+  }
+}
@@ -0,0 +1,175 @@
+package de.sebdas;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.List;
+import java.util.Set;
+
+class Painter {
+  static final Color BACKGROUND_COLOR = Color.CORNSILK;
+  static final Color FOOD_COLOR = Color.DARKOLIVEGREEN;
+  static final Color SNAKE_COLOR = Color.CORNFLOWERBLUE;
+  static final Color OTHER_SNAKE_COLOR = Color.DARKORANGE;
+  private static final Color WARNING_COLOR = Color.RED;
+
+  private final RenderBackend backend;
+  private final double tileSize;
+  private final World world;
+  private Paint warningColor;
+  private boolean incremental;
+  private long paintedTick;
+  private SnakeGeometry snakeGeometry;
+  private SnakeGeometry otherSnakeGeometry;
+
+  Painter(final GraphicsContext gc, final double tileSize, final World world) {
+    this(new CanvasBackend(gc), tileSize, world);
+  }
+
+  Painter(final RenderBackend backend, final double tileSize, final World world) {
+    this.backend = backend;
+    this.tileSize = tileSize;
+    this.world = world;
+    this.warningColor = WARNING_COLOR;
+  }
+
+  RenderBackend getBackend() {
+    return backend;
+  }
+
+  Paint getWarningColor() {
+    return warningColor;
+  }
+
+  double scale(final int value) {
+    return value * tileSize;
+  }
+
+  /**
+   * In the incremental mode, only the cells that changed since the previous frame are painted, which
+   * costs the same for every pulse, however long the snakes are. Everything is painted once the world
+   * is reset, or after {@link #invalidate()}.
+   */
+  void setIncremental(final boolean incremental) {
+    this.incremental = incremental;
+    invalidate();
+  }
+
+  boolean isIncremental() {
+    return incremental;
+  }
+
+  /** paints everything with the next frame, e.g. after the canvas was resized */
+  void invalidate() {
+    if (incremental) {
+      world.getChangeLog().markEverything();
+    }
+  }
+
+  void paint() {
+    if (incremental && !world.getChangeLog().isEverything()) {
+      paintChanges();
+    } else {
+      clearCanvas();
+      paintFood();
+      paintOtherSnakes();
+      paintSnake();
+    }
+    if (incremental) {
+      world.getChangeLog().clear();
+      paintedTick = world.getTick();
+    }
+  }
+
+  void paintChanges() {
+    final ChangeLog changes = world.getChangeLog();
+    final Grid grid = world.getGrid();
+    for (int i = 0; i < changes.size(); i++) {
+      final int cell = changes.get(i);
+      backend.setFill(colorOf(cell));
+      backend.fillRect(scale(grid.x(cell)),
+                       scale(grid.y(cell)),
+                       tileSize,
+                       tileSize);
+    }
+  }
+
+  /* snakes are painted over food; the player's cells entered since the previous frame are its first ones */
+  Color colorOf(final int cell) {
+    final Snake snake = world.getSnake();
+    if (snake.isOccupied(cell)) {
+      final long entered = Math.min(world.getTick() - paintedTick, snake.getLength());
+      for (int i = 0; i < entered; i++) {
+        if (snake.getSegment(i) == cell) return SNAKE_COLOR;
+      }
+      return OTHER_SNAKE_COLOR;
+    }
+    return world.isFood(cell) ? FOOD_COLOR : BACKGROUND_COLOR;
+  }
+
+  void showWarning() {
+    backend.setStroke(warningColor);
+    backend.setLineWidth(5.0);
+    backend.strokeRect(0.0, 0.0, scale(world.getWidth()), scale(world.getHeight()));
+    toggleWarningColor();
+  }
+
+  void toggleWarningColor() {
+    warningColor = warningColor.equals(WARNING_COLOR)
+                   ? BACKGROUND_COLOR
+                   : WARNING_COLOR;
+  }
+
+  void clearCanvas() {
+    backend.setFill(BACKGROUND_COLOR);
+    backend.fillRect(0.0, 0.0, scale(world.getWidth()), scale(world.getHeight()));
+  }
+
+  void paintFood() {
+    final Set<Coordinate> food = world.getFood();
+    backend.setFill(FOOD_COLOR);
+    for (final Coordinate bite : food) {
+      backend.fillRect(scale(bite.getX()),
+                       scale(bite.getY()),
+                       tileSize,
+                       tileSize);
+    }
+  }
+
+  void paintSnake() {
+    backend.setFill(SNAKE_COLOR);
+    paintSpans(geometryOf(world.getSnake(), true));
+  }
+
+  void paintOtherSnakes() {
+    final List<Snake> snakes = world.getSnakes();
+    backend.setFill(OTHER_SNAKE_COLOR);
+    for (int i = 1; i < snakes.size(); i++) {
+      paintSpans(geometryOf(snakes.get(i), false));
+    }
+  }
+
+  /**
+   * @return the straight runs of the snake, which are kept up to date for the snake of the player and
+   * worked out anew for the other snakes, which still saves draw calls
+   */
+  SnakeGeometry geometryOf(final Snake snake, final boolean player) {
+    if (snakeGeometry == null) {
+      snakeGeometry = new SnakeGeometry(world.getGrid());
+      otherSnakeGeometry = new SnakeGeometry(world.getGrid());
+    }
+    final SnakeGeometry geometry = player ? snakeGeometry : otherSnakeGeometry;
+    geometry.update(snake);
+    return geometry;
+  }
+
+  private void paintSpans(final SnakeGeometry geometry) {
+    for (int i = 0; i < geometry.size(); i++) {
+      backend.fillRect(scale(geometry.getX(i)),
+                       scale(geometry.getY(i)),
+                       geometry.getWidth(i) * tileSize,
+                       geometry.getHeight(i) * tileSize);
+    }
+  }
+}
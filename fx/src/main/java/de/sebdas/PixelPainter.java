@@ -0,0 +1,130 @@
+package de.sebdas;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
+import javafx.scene.paint.Color;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link Painter} that rasterizes the tiles into an array of pixels, a block of whole pixels per tile,
+ * rather than issuing a {@code fillRect} per tile to the canvas. The pixels are handed to a
+ * {@link WritableImage} and drawn onto the canvas in a single operation per frame, however many tiles
+ * changed, so that large boards do not flood the command buffer of the canvas.
+ * <p>
+ * In the incremental mode only the tiles of the changed cells are rasterized again; the image is still
+ * uploaded as a whole.
+ */
+final class PixelPainter extends Painter {
+  private static final WritablePixelFormat<IntBuffer> FORMAT = PixelFormat.getIntArgbPreInstance();
+  private static final int MAX_PIXELS = Integer.MAX_VALUE - 8; // the largest array that VMs reliably allocate
+
+  private final World world;
+  private final Grid grid;
+  private final int tilePixels;
+  private final int imageWidth;
+  private final int[] pixels;
+  private final WritableImage image;
+
+  PixelPainter(final GraphicsContext gc, final double tileSize, final World world) {
+    this(new CanvasBackend(gc), tileSize, world);
+  }
+
+  PixelPainter(final RenderBackend backend, final double tileSize, final World world) {
+    super(backend, tileSize, world);
+    this.world = world;
+    this.grid = world.getGrid();
+    this.tilePixels = Math.max(1, (int) Math.round(tileSize));
+    final long width = (long) grid.getWidth() * tilePixels;
+    final long height = (long) grid.getHeight() * tilePixels;
+    if (width * height > MAX_PIXELS) {
+      throw new IllegalArgumentException("Image of " + width + " x " + height + " pixels for a board of "
+                                         + grid.getWidth() + " x " + grid.getHeight() + " tiles of "
+                                         + tilePixels + " pixels exceeds the size of an array");
+    }
+    this.imageWidth = (int) width;
+    this.pixels = new int[(int) (width * height)];
+    this.image = new WritableImage(imageWidth, (int) height);
+  }
+
+  /** intended for testing only */
+  WritableImage getImage() {
+    return image;
+  }
+
+  @Override
+  void paint() {
+    super.paint();
+    image.getPixelWriter().setPixels(0, 0, imageWidth, (int) image.getHeight(), FORMAT, pixels, 0, imageWidth);
+    getBackend().drawImage(image, 0.0, 0.0, scale(world.getWidth()), scale(world.getHeight()));
+  }
+
+  @Override
+  void clearCanvas() {
+    Arrays.fill(pixels, argb(BACKGROUND_COLOR));
+  }
+
+  @Override
+  void paintFood() {
+    final int color = argb(FOOD_COLOR);
+    for (int i = 0; i < world.getFoodCount(); i++) {
+      fillTile(world.getFoodCell(i), color);
+    }
+  }
+
+  @Override
+  void paintSnake() {
+    fillSpans(geometryOf(world.getSnake(), true), argb(SNAKE_COLOR));
+  }
+
+  @Override
+  void paintOtherSnakes() {
+    final List<Snake> snakes = world.getSnakes();
+    final int color = argb(OTHER_SNAKE_COLOR);
+    for (int i = 1; i < snakes.size(); i++) {
+      fillSpans(geometryOf(snakes.get(i), false), color);
+    }
+  }
+
+  @Override
+  void paintChanges() {
+    final ChangeLog changes = world.getChangeLog();
+    for (int i = 0; i < changes.size(); i++) {
+      final int cell = changes.get(i);
+      fillTile(cell, argb(colorOf(cell)));
+    }
+  }
+
+  private void fillSpans(final SnakeGeometry geometry, final int color) {
+    for (int i = 0; i < geometry.size(); i++) {
+      fillBlock(geometry.getX(i), geometry.getY(i), geometry.getWidth(i), geometry.getHeight(i), color);
+    }
+  }
+
+  private void fillTile(final int cell, final int color) {
+    fillBlock(grid.x(cell), grid.y(cell), 1, 1, color);
+  }
+
+  /* a plain loop beats Arrays.fill() for the few pixels of a row of a small tile */
+  private void fillBlock(final int x, final int y, final int width, final int height, final int color) {
+    final int rowPixels = width * tilePixels;
+    int start = y * tilePixels * imageWidth + x * tilePixels;
+    for (int row = 0; row < height * tilePixels; row++, start += imageWidth) {
+      for (int pixel = start; pixel < start + rowPixels; pixel++) {
+        pixels[pixel] = color;
+      }
+    }
+  }
+
+  /* the colors are opaque, so that premultiplying the alpha changes nothing */
+  private static int argb(final Color color) {
+    return (int) Math.round(color.getOpacity() * 255) << 24
+           | (int) Math.round(color.getRed() * 255) << 16
+           | (int) Math.round(color.getGreen() * 255) << 8
+           | (int) Math.round(color.getBlue() * 255);
+  }
+}
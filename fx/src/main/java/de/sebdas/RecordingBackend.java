@@ -0,0 +1,67 @@
+package de.sebdas;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+
+/**
+ * Draws nothing, but counts the drawing operations and the bytes that they would take, estimated after
+ * the command buffer of a canvas: a byte for the operation, four bytes for each coordinate and for each
+ * reference to a paint or an image. The pixels of an image count with four bytes each in addition, as
+ * an image drawn anew is uploaded anew.
+ */
+final class RecordingBackend implements RenderBackend {
+  private static final int OPERATION_BYTES = 1;
+  private static final int VALUE_BYTES = 4;
+
+  private long operationCount;
+  private long byteCount;
+
+  long getOperationCount() {
+    return operationCount;
+  }
+
+  long getByteCount() {
+    return byteCount;
+  }
+
+  void reset() {
+    operationCount = 0;
+    byteCount = 0;
+  }
+
+  @Override
+  public void setFill(final Paint paint) {
+    record(1);
+  }
+
+  @Override
+  public void setStroke(final Paint paint) {
+    record(1);
+  }
+
+  @Override
+  public void setLineWidth(final double width) {
+    record(1);
+  }
+
+  @Override
+  public void fillRect(final double x, final double y, final double width, final double height) {
+    record(4);
+  }
+
+  @Override
+  public void strokeRect(final double x, final double y, final double width, final double height) {
+    record(4);
+  }
+
+  @Override
+  public void drawImage(final Image image, final double x, final double y, final double width, final double height) {
+    record(5);
+    byteCount += (long) image.getWidth() * (long) image.getHeight() * VALUE_BYTES;
+  }
+
+  private void record(final int values) {
+    operationCount++;
+    byteCount += OPERATION_BYTES + values * VALUE_BYTES;
+  }
+}
@@ -0,0 +1,27 @@
+package de.sebdas;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+
+/**
+ * The drawing operations that a {@link Painter} issues, after those of a {@code GraphicsContext}, so
+ * that the painting can run without a canvas or a display, e.g. to profile it on a server.
+ *
+ * @see CanvasBackend
+ * @see RecordingBackend
+ * @see NoOpBackend
+ */
+interface RenderBackend {
+
+  void setFill(Paint paint);
+
+  void setStroke(Paint paint);
+
+  void setLineWidth(double width);
+
+  void fillRect(double x, double y, double width, double height);
+
+  void strokeRect(double x, double y, double width, double height);
+
+  void drawImage(Image image, double x, double y, double width, double height);
+}
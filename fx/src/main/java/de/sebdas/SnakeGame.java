@@ -0,0 +1,136 @@
+package de.sebdas;
+
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.stage.Stage;
+
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+public class SnakeGame extends Application {
+  static final double TILE_SIZE = 50.0;
+
+  /* the main allows it to start the application with Gradle, otherwise it's not mandatory for a JavaFX Application */
+  public static void main(final String[] args) {
+    launch(args);
+  }
+
+  private final Canvas canvas;
+  private Node view;
+  private World world;
+  private GameLoop gameLoop;
+  private KeyHandler keyHandler;
+  private Closeable recorder;
+
+  public SnakeGame() {
+    this.canvas = new Canvas();
+  }
+
+  /*
+   * named parameters like --width=40 --height=30 --tile-size=20 define the world size and the scaling,
+   * --seed=42 makes the food reproducible and --record=game.snkr records the inputs for a replay,
+   * with --keyframe-interval=4096 additionally keyframes that allow to seek within the replay,
+   * --paint=full repaints the whole canvas every frame rather than just the changed cells,
+   * --paint=pixels rasterizes the changed cells into an image that is drawn in one go, and
+   * --paint=nodes shows a node per tile in the scene graph instead of the canvas
+   */
+  @Override
+  public void init() throws IOException {
+    final Map<String, String> parameters = getParameters().getNamed();
+    final int width = Integer.parseInt(parameter(parameters, "width", World.DEFAULT_WIDTH_TILES));
+    final int height = Integer.parseInt(parameter(parameters, "height", World.DEFAULT_HEIGHT_TILES));
+    final double tileSize = Double.parseDouble(parameter(parameters, "tile-size", TILE_SIZE));
+
+    final Long seed = parameters.containsKey("seed") ? Long.valueOf(parameters.get("seed")) : null;
+
+    this.world = seed == null ? new World(width, height) : new World(width, height, seed);
+    if (parameters.containsKey("record")) {
+      final FileOutputStream out = new FileOutputStream(parameters.get("record"));
+      this.recorder = parameters.containsKey("keyframe-interval")
+          ? new KeyframedRecorder(world, out, Integer.parseInt(parameters.get("keyframe-interval")))
+          : new InputRecorder(world, out);
+    }
+
+    final String paint = parameter(parameters, "paint", "incremental");
+    final Painter painter = createPainter(paint, tileSize);
+    painter.setIncremental(!"full".equals(paint));
+
+    this.gameLoop = new GameLoop(world, painter, GameLoop::createFrameTimer);
+    this.keyHandler = new KeyHandler(this, world);
+
+    canvas.setWidth(painter.scale(world.getWidth()));
+    canvas.setHeight(painter.scale(world.getHeight()));
+    canvas.widthProperty().addListener(resized -> painter.invalidate());
+    canvas.heightProperty().addListener(resized -> painter.invalidate());
+  }
+
+  private Painter createPainter(final String paint, final double tileSize) {
+    if ("nodes".equals(paint)) {
+      final NodePainter painter = new NodePainter(tileSize, world);
+      this.view = painter.getRoot();
+      return painter;
+    }
+    this.view = canvas;
+    return "pixels".equals(paint)
+        ? new PixelPainter(canvas.getGraphicsContext2D(), tileSize, world)
+        : new Painter(canvas.getGraphicsContext2D(), tileSize, world);
+  }
+
+  private static String parameter(final Map<String, String> parameters, final String name, final Object defaultValue) {
+    return parameters.getOrDefault(name, String.valueOf(defaultValue));
+  }
+
+  @Override
+  public void start(final Stage stage) {
+    final Scene scene = new Scene(new Group(view));
+    scene.getAccelerators().putAll(defineAccelerators());
+
+    stage.setTitle("Snake");
+    stage.setScene(scene);
+    stage.setResizable(false);
+    stage.show();
+
+    gameLoop.start();
+  }
+
+  private Map<? extends KeyCombination, ? extends Runnable> defineAccelerators() {
+    return Map.of(
+        new KeyCodeCombination(KeyCode.LEFT), keyHandler::onLeft,
+        new KeyCodeCombination(KeyCode.RIGHT), keyHandler::onRight,
+        new KeyCodeCombination(KeyCode.UP), keyHandler::onUp,
+        new KeyCodeCombination(KeyCode.DOWN), keyHandler::onDown,
+        new KeyCodeCombination(KeyCode.P), keyHandler::togglePause,
+        new KeyCodeCombination(KeyCode.S), keyHandler::restart,
+        new KeyCodeCombination(KeyCode.X), keyHandler::cancel,
+        new KeyCodeCombination(KeyCode.Y), keyHandler::yes,
+        new KeyCodeCombination(KeyCode.N), keyHandler::no
+    );
+  }
+
+  @Override
+  public void stop() throws IOException {
+    gameLoop.stop();
+    if (recorder != null) {
+      recorder.close();
+    }
+  }
+
+  void reset() {
+    gameLoop.stop();
+    world.reset();
+    gameLoop.start();
+  }
+
+  void exit() {
+    Platform.exit();
+  }
+}
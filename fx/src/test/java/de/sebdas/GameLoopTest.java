@@ -1,7 +1,6 @@
 package de.sebdas;
 
 import javafx.animation.AnimationTimer;
-import javafx.beans.InvalidationListener;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -24,20 +23,20 @@ class GameLoopTest {
 
   @Mock private Painter painterMock;
   @Mock private World worldMock;
-  @Mock private AnimationTimer animationTimerMock;
+  @Mock private FrameTimer frameTimerMock;
   private GameLoop gameLoop;
 
   @BeforeEach
   void setup() {
-    gameLoop = new GameLoop(worldMock, painterMock, gl -> animationTimerMock);
+    gameLoop = new GameLoop(worldMock, painterMock, gl -> frameTimerMock);
   }
 
   @Test
   @DisplayName("constructor should add listener")
   void test_constructor(@Mock final World worldMock) {
-    new GameLoop(worldMock, painterMock, gl -> animationTimerMock);
+    new GameLoop(worldMock, painterMock, gl -> frameTimerMock);
 
-    verify(worldMock).addListener(any(InvalidationListener.class));
+    verify(worldMock).addListener(any(WorldListener.class));
   }
 
   @Nested
@@ -123,6 +122,23 @@ class GameLoopTest {
     }
   }
 
+  @Nested
+  @DisplayName("frame()")
+  class Testing_frame {
+
+    @Test
+    @DisplayName("should update the world once the update interval has passed since the last update")
+    void test_frame() {
+      when(worldMock.noCollisionDetected()).thenReturn(true);
+
+      gameLoop.frame(UPDATE_INTERVAL_NANOS);
+      gameLoop.frame(UPDATE_INTERVAL_NANOS * 3 / 2);
+      gameLoop.frame(UPDATE_INTERVAL_NANOS * 2);
+
+      verify(worldMock, times(2)).pulse();
+    }
+  }
+
   @Nested
   @DisplayName("update()")
   class Testing_update {
@@ -152,6 +168,32 @@ class GameLoopTest {
   @DisplayName("start() and stop()")
   class Testing_start_and_stop {
 
+    @Test
+    @DisplayName("start() and stop() should start and stop the animation timer of createFrameTimer()")
+    void test_start_and_stop_with_animation_timer() {
+      final GameLoop gameLoopSpy = spy(new GameLoop(worldMock, painterMock, gl -> frameTimerMock));
+      final AnimationTimer animationTimerMock = mock(AnimationTimer.class);
+      doReturn(animationTimerMock).when(gameLoopSpy).createAnimationTimer();
+      final FrameTimer frameTimer = gameLoopSpy.createFrameTimer();
+
+      frameTimer.start();
+      frameTimer.stop();
+
+      verify(animationTimerMock).start();
+      verify(animationTimerMock).stop();
+    }
+
+    @Test
+    @DisplayName("start() should not fail with the frame timer of createFrameTimer()")
+    void test_start_with_created_frame_timer() {
+      final GameLoop gameLoop = new GameLoop(worldMock, painterMock, GameLoop::createFrameTimer);
+
+      gameLoop.start();
+      gameLoop.stop();
+
+      verify(painterMock).paint();
+    }
+
     @Test
     @DisplayName("start() should paint")
     void test_start_paints_world() {
@@ -161,19 +203,19 @@ class GameLoopTest {
     }
 
     @Test
-    @DisplayName("start() should start the animation timer")
+    @DisplayName("start() should start the frame timer")
     void test_start_starts_timer() {
       gameLoop.start();
 
-      verify(animationTimerMock).start();
+      verify(frameTimerMock).start();
     }
 
     @Test
-    @DisplayName("stop() should stop the animation timer")
+    @DisplayName("stop() should stop the frame timer")
     void test_stop_stops_timer() {
       gameLoop.stop();
 
-      verify(animationTimerMock).stop();
+      verify(frameTimerMock).stop();
     }
   }
 }
@@ -0,0 +1,137 @@
+package de.sebdas;
+
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NodePainter")
+class NodePainterTest {
+  private static final double TILE_SIZE = 4.0;
+
+  private World world;
+  private NodePainter painter;
+
+  @BeforeEach
+  void setup() {
+    world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(1, 2)));
+    painter = new NodePainter(TILE_SIZE, world);
+  }
+
+  private int cell(final int x, final int y) {
+    return world.getGrid().cell(x, y);
+  }
+
+  private Rectangle warning() {
+    final List<Node> children = painter.getRoot().getChildren();
+    return (Rectangle) children.get(children.size() - 1);
+  }
+
+  @Test
+  @DisplayName("paint() should show a node per tile of the snake and the food")
+  void test_paint() {
+    painter.paint();
+
+    assertThat(painter.getNodeCount()).isEqualTo(4);
+    assertThat(painter.getRoot().getChildren()).hasSize(6);
+    final Rectangle head = painter.getNode(cell(7, 5));
+    assertThat(head.getX()).isEqualTo(7 * TILE_SIZE);
+    assertThat(head.getY()).isEqualTo(5 * TILE_SIZE);
+    assertThat(head.getWidth()).isEqualTo(TILE_SIZE);
+    assertThat(head.getFill()).isEqualTo(Painter.SNAKE_COLOR);
+    assertThat(painter.getNode(cell(1, 2)).getFill()).isEqualTo(Painter.FOOD_COLOR);
+    assertThat(painter.getNode(cell(0, 0))).isNull();
+  }
+
+  @Test
+  @DisplayName("paint() should move the node of the tail to the head")
+  void test_paint_pulse() {
+    painter.paint();
+    final Rectangle tail = painter.getNode(cell(5, 5));
+
+    world.pulse();
+    painter.paint();
+
+    assertThat(painter.getNode(cell(8, 5))).isSameAs(tail);
+    assertThat(painter.getNode(cell(5, 5))).isNull();
+    assertThat(tail.getX()).isEqualTo(8 * TILE_SIZE);
+    assertThat(tail.isVisible()).isTrue();
+    assertThat(painter.getNodeCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("paint() should add a node when the snake grows")
+  void test_paint_grow() {
+    world.setFood(Set.of(new Coordinate(8, 5)));
+    painter.paint();
+    assertThat(painter.getNode(cell(8, 5)).getFill()).isEqualTo(Painter.FOOD_COLOR);
+
+    world.pulse();
+    painter.paint();
+    world.pulse();
+    painter.paint();
+
+    assertThat(painter.getNode(cell(8, 5)).getFill()).isEqualTo(Painter.SNAKE_COLOR);
+    assertThat(world.getSnake().getLength()).isEqualTo(4);
+    assertThat(painter.getNodeCount()).isEqualTo(4 + world.getFoodCount());
+  }
+
+  @Test
+  @DisplayName("paint() should show the other snakes")
+  void test_paint_otherSnakes() {
+    world.addSnake(new Coordinate(2, 8), Directions.up());
+    painter.paint();
+    world.pulse();
+    painter.paint();
+
+    assertThat(painter.getNode(cell(2, 7)).getFill()).isEqualTo(Painter.OTHER_SNAKE_COLOR);
+    assertThat(painter.getNode(cell(2, 9)).getFill()).isEqualTo(Painter.OTHER_SNAKE_COLOR);
+    assertThat(painter.getNode(cell(2, 0))).isNull();
+    assertThat(painter.getNodeCount()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("paint() should reuse the nodes after a reset")
+  void test_paint_reset() {
+    painter.paint();
+    world.pulse();
+    painter.showWarning();
+
+    world.setSnake(new Snake(new Coordinate(3, 2), new Occupancy(world.getGrid())));
+    painter.paint();
+
+    assertThat(painter.getNode(cell(8, 5))).isNull();
+    assertThat(painter.getNode(cell(3, 2)).isVisible()).isTrue();
+    assertThat(painter.getNodeCount()).isEqualTo(4);
+    assertThat(warning().isVisible()).isFalse();
+  }
+
+  @Test
+  @DisplayName("showWarning() should flash a frame above the tiles")
+  void test_showWarning() {
+    painter.paint();
+
+    painter.showWarning();
+    assertThat(warning().isVisible()).isTrue();
+    assertThat(warning().getStroke()).isEqualTo(Color.RED);
+
+    painter.showWarning();
+    assertThat(warning().getStroke()).isEqualTo(Painter.BACKGROUND_COLOR);
+  }
+
+  @Test
+  @DisplayName("setIncremental() should not switch off the incremental mode")
+  void test_setIncremental() {
+    painter.setIncremental(false);
+
+    assertThat(painter.isIncremental()).isTrue();
+  }
+}
@@ -0,0 +1,236 @@
+package de.sebdas;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static de.sebdas.SnakeGame.TILE_SIZE;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Painter")
+@ExtendWith(MockitoExtension.class)
+class PainterTest {
+
+  @Mock
+  private GraphicsContext graphicsContextMock;
+  private World worldSpy;
+  private Painter painterSpy;
+
+  @BeforeEach
+  void setup() {
+    worldSpy = spy(new World());
+    painterSpy = spy(new Painter(graphicsContextMock, TILE_SIZE, worldSpy));
+  }
+
+  private static double scale(final int value) {
+    return value * TILE_SIZE;
+  }
+
+  @Test
+  @DisplayName("scale() should multiply by the tile size")
+  void test_scale() {
+    assertThat(painterSpy.scale(3)).isEqualTo(3 * TILE_SIZE);
+  }
+
+  @Nested
+  @DisplayName("paint()")
+  class Testing_paint {
+
+    @Test
+    @DisplayName("should clear the canvas")
+    void test_paint_clears_canvas() {
+      painterSpy.paint();
+
+      verify(painterSpy).clearCanvas();
+      verify(graphicsContextMock).fillRect(0.0, 0.0, scale(worldSpy.getWidth()), scale(worldSpy.getHeight()));
+    }
+
+    @Test
+    @DisplayName("should paint the food")
+    void test_paint_food() {
+      painterSpy.paint();
+
+      verify(painterSpy).paintFood();
+      verify(worldSpy).getFood();
+    }
+
+    @Test
+    @DisplayName("should paint straight runs of the snake as single rectangles")
+    void test_paint_snake_spans() {
+      worldSpy.setFood(emptySet());
+      worldSpy.onDown();
+      worldSpy.pulse();
+
+      painterSpy.paint();
+
+      verify(graphicsContextMock).fillRect(scale(7), scale(6), TILE_SIZE, TILE_SIZE);
+      verify(graphicsContextMock).fillRect(scale(6), scale(5), scale(2), TILE_SIZE);
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored") // we just want to verify that the method was called at all
+    @Test
+    @DisplayName("should paint the snake")
+    void test_paint_snake() {
+      painterSpy.paint();
+
+      verify(painterSpy).paintSnake();
+      verify(worldSpy).getSnake();
+    }
+
+    @Test
+    @DisplayName("should paint the other snakes")
+    void test_paint_otherSnakes() {
+      worldSpy.addSnake(new Coordinate(2, 1), Directions.right());
+
+      painterSpy.paint();
+
+      verify(painterSpy).paintOtherSnakes();
+      verify(graphicsContextMock).fillRect(scale(0), scale(1), scale(3), TILE_SIZE);
+    }
+  }
+
+  @Nested
+  @DisplayName("incremental paint()")
+  class Testing_incremental {
+
+    @BeforeEach
+    void setup() {
+      worldSpy.setFood(emptySet());
+      painterSpy.setIncremental(true);
+      painterSpy.paint();
+      clearInvocations(painterSpy, graphicsContextMock);
+    }
+
+    @Test
+    @DisplayName("should paint everything first")
+    void test_paint_first() {
+      final Painter painter = new Painter(graphicsContextMock, TILE_SIZE, worldSpy);
+      painter.setIncremental(true);
+
+      painter.paint();
+
+      verify(graphicsContextMock).fillRect(0.0, 0.0, scale(worldSpy.getWidth()), scale(worldSpy.getHeight()));
+    }
+
+    @Test
+    @DisplayName("should only paint the new head and the old tail after a pulse")
+    void test_paint_pulse() {
+      worldSpy.pulse();
+
+      painterSpy.paint();
+
+      verify(painterSpy, never()).clearCanvas();
+      verify(graphicsContextMock).setFill(Color.CORNFLOWERBLUE);
+      verify(graphicsContextMock).fillRect(scale(8), scale(5), TILE_SIZE, TILE_SIZE);
+      verify(graphicsContextMock).setFill(Color.CORNSILK);
+      verify(graphicsContextMock).fillRect(scale(5), scale(5), TILE_SIZE, TILE_SIZE);
+      verify(graphicsContextMock, times(2)).fillRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("should paint new food")
+    void test_paint_food() {
+      worldSpy.setFood(Set.of(new Coordinate(1, 2)));
+
+      painterSpy.paint();
+
+      verify(graphicsContextMock).setFill(Color.DARKOLIVEGREEN);
+      verify(graphicsContextMock).fillRect(scale(1), scale(2), TILE_SIZE, TILE_SIZE);
+    }
+
+    @Test
+    @DisplayName("should paint the other snakes in their color")
+    void test_paint_otherSnakes() {
+      worldSpy.addSnake(new Coordinate(2, 1), Directions.right());
+      worldSpy.pulse();
+
+      painterSpy.paint();
+
+      verify(graphicsContextMock).fillRect(scale(8), scale(5), TILE_SIZE, TILE_SIZE);
+      verify(graphicsContextMock, atLeastOnce()).setFill(Color.DARKORANGE);
+      verify(graphicsContextMock).fillRect(scale(3), scale(1), TILE_SIZE, TILE_SIZE);
+      verify(graphicsContextMock, never()).fillRect(0.0, 0.0, scale(worldSpy.getWidth()), scale(worldSpy.getHeight()));
+    }
+
+    @Test
+    @DisplayName("should paint everything after a reset")
+    void test_paint_reset() {
+      worldSpy.reset();
+
+      painterSpy.paint();
+
+      verify(painterSpy).clearCanvas();
+    }
+
+    @Test
+    @DisplayName("should paint everything after invalidate()")
+    void test_paint_invalidate() {
+      painterSpy.invalidate();
+
+      painterSpy.paint();
+
+      verify(painterSpy).clearCanvas();
+    }
+  }
+
+  @Nested
+  @DisplayName("toggleWarningColor() should actually toggle")
+  class Testing_toggleWarningColor {
+
+    private Paint initialWarningColor;
+
+    @BeforeEach
+    void setup() {
+      initialWarningColor = painterSpy.getWarningColor();
+    }
+
+    @Test
+    @DisplayName("should change the warning color for an odd number of calls")
+    void test_toggleWarningColor_odd() {
+      painterSpy.toggleWarningColor();
+
+      assertThat(painterSpy.getWarningColor()).isNotEqualTo(initialWarningColor);
+
+      painterSpy.toggleWarningColor();
+      painterSpy.toggleWarningColor();
+
+      assertThat(painterSpy.getWarningColor()).isNotEqualTo(initialWarningColor);
+    }
+
+    @Test
+    @DisplayName("should change the warning color back to the initial value for an even number of calls")
+    void test_toggleWarningColor_even() {
+      painterSpy.toggleWarningColor();
+      painterSpy.toggleWarningColor();
+
+      assertThat(painterSpy.getWarningColor()).isEqualTo(initialWarningColor);
+
+      painterSpy.toggleWarningColor();
+      painterSpy.toggleWarningColor();
+
+      assertThat(painterSpy.getWarningColor()).isEqualTo(initialWarningColor);
+    }
+  }
+
+  @Test
+  @DisplayName("showWarning() should draw a flashing rectangle")
+  void test_showWarning_twice() {
+    painterSpy.showWarning();
+    painterSpy.showWarning();
+    painterSpy.showWarning();
+
+    verify(graphicsContextMock, times(3)).strokeRect(0.0, 0.0, scale(worldSpy.getWidth()), scale(worldSpy.getHeight()));
+    verify(painterSpy, times(3)).toggleWarningColor();
+  }
+}
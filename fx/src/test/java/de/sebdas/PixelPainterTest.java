@@ -0,0 +1,134 @@
+package de.sebdas;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PixelPainter")
+@ExtendWith(MockitoExtension.class)
+class PixelPainterTest {
+  private static final double TILE_SIZE = 4.0;
+
+  @Mock
+  private GraphicsContext graphicsContextMock;
+  private World world;
+  private PixelPainter painter;
+
+  @BeforeEach
+  void setup() {
+    world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(1, 2)));
+    painter = new PixelPainter(graphicsContextMock, TILE_SIZE, world);
+  }
+
+  private Color colorAt(final int x, final int y) {
+    final PixelReader reader = painter.getImage().getPixelReader();
+    return reader.getColor((int) (x * TILE_SIZE + 1), (int) (y * TILE_SIZE + 2));
+  }
+
+  @Test
+  @DisplayName("paint() should draw a single image rather than filling the tiles")
+  void test_paint() {
+    painter.paint();
+
+    verify(graphicsContextMock).drawImage(any(WritableImage.class), eq(0.0), eq(0.0), eq(15 * TILE_SIZE), eq(10 * TILE_SIZE));
+    verify(graphicsContextMock, never()).fillRect(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    assertThat(painter.getImage().getWidth()).isEqualTo(15 * TILE_SIZE);
+  }
+
+  @Test
+  @DisplayName("constructor should reject boards whose image exceeds the size of an array")
+  void test_constructor_tooLarge() {
+    final World largeWorld = new World(40_000, 30_000, 1L);
+
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new PixelPainter(graphicsContextMock, 2.0, largeWorld))
+        .withMessageContaining("80000 x 60000 pixels");
+  }
+
+  @Test
+  @DisplayName("paint() should rasterize the background, the food and the snake")
+  void test_paint_pixels() {
+    painter.paint();
+
+    assertThat(colorAt(0, 0)).isEqualTo(Painter.BACKGROUND_COLOR);
+    assertThat(colorAt(1, 2)).isEqualTo(Painter.FOOD_COLOR);
+    assertThat(colorAt(7, 5)).isEqualTo(Painter.SNAKE_COLOR);
+    assertThat(colorAt(5, 5)).isEqualTo(Painter.SNAKE_COLOR);
+  }
+
+  @Test
+  @DisplayName("incremental paint() should rasterize the changed cells")
+  void test_paint_incremental() {
+    world.addSnake(new Coordinate(2, 8), Directions.up());
+    painter.setIncremental(true);
+    painter.paint();
+
+    world.pulse();
+    painter.paint();
+
+    assertThat(colorAt(8, 5)).isEqualTo(Painter.SNAKE_COLOR);
+    assertThat(colorAt(5, 5)).isEqualTo(Painter.BACKGROUND_COLOR);
+    assertThat(colorAt(2, 7)).isEqualTo(Painter.OTHER_SNAKE_COLOR);
+    assertThat(colorAt(2, 0)).isEqualTo(Painter.BACKGROUND_COLOR);
+    assertThat(colorAt(1, 2)).isEqualTo(Painter.FOOD_COLOR);
+    verify(graphicsContextMock, times(2)).drawImage(any(WritableImage.class), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+  }
+
+  @Test
+  @DisplayName("incremental paint() should rasterize the same image as a full paint() in a game of many snakes")
+  void test_paint_incremental_equals_full() {
+    for (long seed = 0; seed < 30; seed++) {
+      final World world = new World(40, 30, seed);
+      final java.util.Random random = new java.util.Random(seed);
+      for (int i = 0; i < 30; i++) {
+        final Direction upOrDown = random.nextBoolean() ? Directions.up() : Directions.down();
+        world.addSnake(new Coordinate(1 + (i % 12) * 3, 4 + (i / 12) * 8), upOrDown);
+      }
+      final PixelPainter incremental = new PixelPainter(graphicsContextMock, TILE_SIZE, world);
+      incremental.setIncremental(true);
+      final PixelPainter full = new PixelPainter(graphicsContextMock, TILE_SIZE, world);
+
+      for (int tick = 0; tick < 200; tick++) {
+        for (final Snake snake : world.getSnakes()) {
+          switch (random.nextInt(8)) {
+            case 0: snake.turnLeft(); break;
+            case 1: snake.turnRight(); break;
+            case 2: snake.turnUp(); break;
+            case 3: snake.turnDown(); break;
+            default:
+          }
+        }
+        world.pulse();
+        incremental.paint();
+        full.paint();
+
+        final PixelReader incrementalPixels = incremental.getImage().getPixelReader();
+        final PixelReader fullPixels = full.getImage().getPixelReader();
+        for (int y = 0; y < world.getHeight(); y++) {
+          for (int x = 0; x < world.getWidth(); x++) {
+            final int px = (int) (x * TILE_SIZE + 1);
+            final int py = (int) (y * TILE_SIZE + 2);
+            assertThat(incrementalPixels.getColor(px, py))
+                .as("seed %d, tick %d, tile (%d, %d)", seed, tick, x, y)
+                .isEqualTo(fullPixels.getColor(px, py));
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package de.sebdas;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecordingBackend")
+class RecordingBackendTest {
+  private static final double TILE_SIZE = 4.0;
+
+  private World world;
+  private RecordingBackend backend;
+
+  @BeforeEach
+  void setup() {
+    world = new World(15, 10, 1L);
+    world.setFood(Set.of(new Coordinate(1, 2)));
+    backend = new RecordingBackend();
+  }
+
+  @Test
+  @DisplayName("should count the operations of a paint and the bytes they take")
+  void test_paint() {
+    new Painter(backend, TILE_SIZE, world).paint();
+
+    // the fills for the background, the food, the other snakes and the snake, and a rectangle each but for the other snakes
+    assertThat(backend.getOperationCount()).isEqualTo(7);
+    assertThat(backend.getByteCount()).isEqualTo(4 * (1 + 4) + 3 * (1 + 4 * 4));
+  }
+
+  @Test
+  @DisplayName("should count the pixels of a drawn image")
+  void test_paint_pixels() {
+    new PixelPainter(backend, TILE_SIZE, world).paint();
+
+    assertThat(backend.getOperationCount()).isEqualTo(1);
+    assertThat(backend.getByteCount()).isEqualTo(1 + 5 * 4 + (long) (15 * TILE_SIZE * 10 * TILE_SIZE) * 4);
+  }
+
+  @Test
+  @DisplayName("reset() should start counting anew")
+  void test_reset() {
+    final Painter painter = new Painter(backend, TILE_SIZE, world);
+    painter.paint();
+
+    backend.reset();
+    painter.showWarning();
+
+    assertThat(backend.getOperationCount()).isEqualTo(3);
+    assertThat(backend.getByteCount()).isEqualTo(2 * (1 + 4) + (1 + 4 * 4));
+  }
+}